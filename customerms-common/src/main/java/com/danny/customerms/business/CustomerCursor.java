@@ -0,0 +1,38 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.exception.BadPetitionException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Codifica el id del ultimo cliente entregado como un cursor opaco para la paginacion por keyset.
+ */
+public final class CustomerCursor {
+
+  private static final int UUID_BYTES = 16;
+
+  private CustomerCursor() {
+  }
+
+  public static String encode(UUID id) {
+    ByteBuffer buffer = ByteBuffer.allocate(UUID_BYTES);
+    buffer.putLong(id.getMostSignificantBits());
+    buffer.putLong(id.getLeastSignificantBits());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  public static UUID decode(String cursor) {
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new BadPetitionException("Cursor invalido");
+    }
+    if (bytes.length != UUID_BYTES) {
+      throw new BadPetitionException("Cursor invalido");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+}
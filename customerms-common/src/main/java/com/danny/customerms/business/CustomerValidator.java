@@ -0,0 +1,142 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.exception.BadPetitionException;
+import com.danny.customerms.model.CustomerPatchRequest;
+import com.danny.customerms.model.CustomerRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Valida los datos de un cliente en una sola pasada. Devuelve todos los errores encontrados y no
+ * reserva memoria ni lanza excepciones cuando los datos son validos.
+ */
+@Component
+public class CustomerValidator {
+
+  static final int DNI_LENGTH = 8;
+  private static final int MIN_TLD_LENGTH = 2;
+  private static final int MAX_TLD_LENGTH = 6;
+
+  public List<String> validate(CustomerRequest customerRequest) {
+    List<String> errors = null;
+    if (isBlank(customerRequest.getNombre())) {
+      errors = addError(errors, "Proporcione un nombre");
+    }
+    if (isBlank(customerRequest.getApellido())) {
+      errors = addError(errors, "Proporcione un apellido");
+    }
+    if (!isValidDni(customerRequest.getDni())) {
+      errors = addError(errors, "DNI no valido, tiene que ser de 8 caracteres");
+    }
+    errors = this.validateEmail(customerRequest.getEmail(), errors);
+    return errors == null ? Collections.emptyList() : errors;
+  }
+
+  /**
+   * Valida solo los campos enviados, como corresponde a una actualizacion parcial.
+   */
+  public List<String> validateChanges(CustomerRequest customerRequest) {
+    return this.validateChanges(customerRequest.getNombre(), customerRequest.getApellido(),
+        customerRequest.getDni(), customerRequest.getEmail());
+  }
+
+  public List<String> validateChanges(CustomerPatchRequest patchRequest) {
+    return this.validateChanges(patchRequest.getNombre(), patchRequest.getApellido(),
+        patchRequest.getDni(), patchRequest.getEmail());
+  }
+
+  private List<String> validateChanges(String nombre, String apellido, String dni, String email) {
+    List<String> errors = null;
+    if (nombre != null && isBlank(nombre)) {
+      errors = addError(errors, "Proporcione un nombre");
+    }
+    if (apellido != null && isBlank(apellido)) {
+      errors = addError(errors, "Proporcione un apellido");
+    }
+    if (dni != null && !isValidDni(dni)) {
+      errors = addError(errors, "DNI no valido, tiene que ser de 8 caracteres");
+    }
+    if (email != null) {
+      errors = this.validateEmail(email, errors);
+    }
+    return errors == null ? Collections.emptyList() : errors;
+  }
+
+  public void requireValid(List<String> errors) {
+    if (!errors.isEmpty()) {
+      throw new BadPetitionException(String.join(", ", errors));
+    }
+  }
+
+  private List<String> validateEmail(String email, List<String> errors) {
+    if (isBlank(email)) {
+      return addError(errors, "Proporcione un email");
+    }
+    if (!isValidEmail(email)) {
+      return addError(errors, "Email invalido");
+    }
+    return errors;
+  }
+
+  private static List<String> addError(List<String> errors, String error) {
+    List<String> result = errors == null ? new ArrayList<>(4) : errors;
+    result.add(error);
+    return result;
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  private static boolean isValidDni(String dni) {
+    return dni != null && dni.length() == DNI_LENGTH && !dni.isBlank();
+  }
+
+  /**
+   * Equivalente a {@code ^[A-Z0-9._%+-]+@[A-Z0-9.-]+\.[A-Z]{2,6}$} sin distinguir mayusculas.
+   */
+  static boolean isValidEmail(String email) {
+    int at = email.indexOf('@');
+    if (at <= 0) {
+      return false;
+    }
+    for (int i = 0; i < at; i++) {
+      if (!isLocalPartChar(email.charAt(i))) {
+        return false;
+      }
+    }
+    int lastDot = -1;
+    for (int i = at + 1; i < email.length(); i++) {
+      char c = email.charAt(i);
+      if (c == '.') {
+        lastDot = i;
+      } else if (!isAsciiLetterOrDigit(c) && c != '-') {
+        return false;
+      }
+    }
+    int tldLength = email.length() - lastDot - 1;
+    if (lastDot <= at + 1 || tldLength < MIN_TLD_LENGTH || tldLength > MAX_TLD_LENGTH) {
+      return false;
+    }
+    for (int i = lastDot + 1; i < email.length(); i++) {
+      if (!isAsciiLetter(email.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLocalPartChar(char c) {
+    return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+  }
+
+  private static boolean isAsciiLetterOrDigit(char c) {
+    return isAsciiLetter(c) || (c >= '0' && c <= '9');
+  }
+
+  private static boolean isAsciiLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+}
@@ -0,0 +1,24 @@
+package com.danny.customerms.business;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza textos de busqueda (minusculas, sin tildes) igual que las columnas *_norm.
+ */
+public final class SearchText {
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+  private SearchText() {
+  }
+
+  public static String normalize(String value) {
+    if (value == null) {
+      return null;
+    }
+    return DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("")
+        .toLowerCase(Locale.ROOT);
+  }
+}
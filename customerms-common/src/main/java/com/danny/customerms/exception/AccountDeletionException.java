@@ -0,0 +1,21 @@
+package com.danny.customerms.exception;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class AccountDeletionException extends RuntimeException {
+
+  private final int statusCode;
+  private final List<UUID> failedAccounts;
+
+  public AccountDeletionException(List<UUID> failedAccounts) {
+    super("No se pudieron eliminar las cuentas: " + failedAccounts.stream().map(UUID::toString)
+        .collect(Collectors.joining(", ")));
+    this.statusCode = HttpStatus.BAD_GATEWAY.value();
+    this.failedAccounts = List.copyOf(failedAccounts);
+  }
+}
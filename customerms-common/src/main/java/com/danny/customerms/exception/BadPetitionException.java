@@ -9,7 +9,7 @@ public class BadPetitionException extends RuntimeException {
   private final int statusCode;
 
   public BadPetitionException(String message) {
-    super(message);
+    super(message, null, false, false);
     this.statusCode = HttpStatus.BAD_REQUEST.value();
   }
 }
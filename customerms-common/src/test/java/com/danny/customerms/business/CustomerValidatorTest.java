@@ -0,0 +1,95 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.danny.customerms.exception.BadPetitionException;
+import com.danny.customerms.model.CustomerPatchRequest;
+import com.danny.customerms.model.CustomerRequest;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class CustomerValidatorTest {
+
+  private static final Pattern EMAIL_REGEX = Pattern.compile(
+      "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$", Pattern.CASE_INSENSITIVE);
+
+  private final CustomerValidator customerValidator = new CustomerValidator();
+
+  @Test
+  void testValidCustomerHasNoErrors() {
+    List<String> errors = customerValidator.validate(createCustomerRequest());
+
+    assertSame(Collections.emptyList(), errors);
+  }
+
+  @Test
+  void testCollectsAllFieldErrors() {
+    List<String> errors = customerValidator.validate(new CustomerRequest());
+
+    assertEquals(List.of("Proporcione un nombre", "Proporcione un apellido",
+        "DNI no valido, tiene que ser de 8 caracteres", "Proporcione un email"), errors);
+  }
+
+  @Test
+  void testValidateChangesIgnoresMissingFields() {
+    CustomerRequest request = new CustomerRequest();
+    request.setDni("1234");
+
+    List<String> errors = customerValidator.validateChanges(request);
+
+    assertEquals(List.of("DNI no valido, tiene que ser de 8 caracteres"), errors);
+  }
+
+  @Test
+  void testValidatePatchChecksOnlySentFields() {
+    CustomerPatchRequest request = new CustomerPatchRequest();
+    request.setNombre(" ");
+    request.setEmail("danny@nttdata.com");
+
+    List<String> errors = customerValidator.validateChanges(request);
+
+    assertEquals(List.of("Proporcione un nombre"), errors);
+  }
+
+  @Test
+  void testRequireValidThrowsWithJoinedMessage() {
+    BadPetitionException exception = assertThrows(BadPetitionException.class,
+        () -> customerValidator.requireValid(List.of("Proporcione un nombre", "Email invalido")));
+
+    assertEquals("Proporcione un nombre, Email invalido", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"danny@nttdata.com", "A.B_c%d+e-f@sub.dominio.PE", "x@y.io",
+      "a@b.c.museum", "a@-.co", "a@..co"})
+  void testAcceptsSameEmailsAsRegex(String email) {
+    assertTrue(EMAIL_REGEX.matcher(email).matches());
+    assertTrue(CustomerValidator.isValidEmail(email));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"@dominio.com", "a@dominio", "a@.com", "a@dominio.c", "a@dominio.abcdefg",
+      "a@dominio.c0m", "a b@dominio.com", "a@b@dominio.com", "a@dominio.com.", "ñ@dominio.com",
+      "a@dominio_x.com"})
+  void testRejectsSameEmailsAsRegex(String email) {
+    assertFalse(EMAIL_REGEX.matcher(email).matches());
+    assertFalse(CustomerValidator.isValidEmail(email));
+  }
+
+  private CustomerRequest createCustomerRequest() {
+    CustomerRequest request = new CustomerRequest();
+    request.setNombre("Danny");
+    request.setApellido("Vera");
+    request.setDni("77885544");
+    request.setEmail("danny@nttdata.com");
+    return request;
+  }
+}
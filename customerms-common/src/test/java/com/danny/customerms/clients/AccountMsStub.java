@@ -0,0 +1,181 @@
+package com.danny.customerms.clients;
+
+import com.danny.customerms.model.AccountResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ACCOUNTMS en memoria para las pruebas. Atiende las mismas rutas que usan los clientes de ambas
+ * variantes y permite simular latencia, errores y la ausencia de la eliminacion en lote.
+ */
+public class AccountMsStub implements AutoCloseable {
+
+  private static final String CLIENT_ID_PARAM = "clienteId=";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<UUID, List<AccountResponse>> accountsByClient = new ConcurrentHashMap<>();
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  private final AtomicInteger lookups = new AtomicInteger();
+  private final AtomicInteger singleDeletes = new AtomicInteger();
+  private final AtomicInteger bulkDeletes = new AtomicInteger();
+
+  private volatile long latencyMillis;
+  private volatile double errorRate;
+  private volatile boolean bulkDeleteSupported = true;
+
+  private AccountMsStub() throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext("/account", this::handle);
+    this.server.setExecutor(this.executor);
+  }
+
+  public static AccountMsStub start() {
+    try {
+      AccountMsStub stub = new AccountMsStub();
+      stub.server.start();
+      return stub;
+    } catch (IOException e) {
+      throw new IllegalStateException("No se pudo iniciar el stub de ACCOUNTMS", e);
+    }
+  }
+
+  public String baseUrl() {
+    return "http://localhost:" + this.server.getAddress().getPort();
+  }
+
+  public AccountMsStub withLatency(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+    return this;
+  }
+
+  public AccountMsStub withErrorRate(double errorRate) {
+    this.errorRate = errorRate;
+    return this;
+  }
+
+  public AccountMsStub withBulkDeleteSupported(boolean bulkDeleteSupported) {
+    this.bulkDeleteSupported = bulkDeleteSupported;
+    return this;
+  }
+
+  public List<AccountResponse> addAccounts(UUID clientId, int count, double saldo) {
+    List<AccountResponse> accounts = this.accountsByClient.computeIfAbsent(clientId,
+        id -> new CopyOnWriteArrayList<>());
+    for (int i = 0; i < count; i++) {
+      AccountResponse account = new AccountResponse();
+      account.setId(UUID.randomUUID());
+      account.setClienteId(clientId);
+      account.setSaldo(saldo);
+      accounts.add(account);
+    }
+    return accounts;
+  }
+
+  public int accountCount(UUID clientId) {
+    return this.accountsByClient.getOrDefault(clientId, List.of()).size();
+  }
+
+  public int lookups() {
+    return this.lookups.get();
+  }
+
+  public int singleDeletes() {
+    return this.singleDeletes.get();
+  }
+
+  public int bulkDeletes() {
+    return this.bulkDeletes.get();
+  }
+
+  public void reset() {
+    this.accountsByClient.clear();
+    this.lookups.set(0);
+    this.singleDeletes.set(0);
+    this.bulkDeletes.set(0);
+  }
+
+  @Override
+  public void close() {
+    this.server.stop(0);
+    this.executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      this.simulateLatency();
+      if (this.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < this.errorRate) {
+        exchange.sendResponseHeaders(500, -1);
+        return;
+      }
+      String path = exchange.getRequestURI().getPath();
+      String method = exchange.getRequestMethod();
+      if ("GET".equals(method) && "/account".equals(path)) {
+        this.lookups.incrementAndGet();
+        List<AccountResponse> accounts = this.accountsByClient.getOrDefault(
+            this.clientId(exchange), List.of());
+        this.sendJson(exchange, this.objectMapper.writeValueAsBytes(accounts));
+      } else if ("DELETE".equals(method) && "/account".equals(path)) {
+        if (!this.bulkDeleteSupported) {
+          exchange.sendResponseHeaders(404, -1);
+          return;
+        }
+        this.bulkDeletes.incrementAndGet();
+        this.accountsByClient.remove(this.clientId(exchange));
+        exchange.sendResponseHeaders(200, -1);
+      } else if ("DELETE".equals(method) && path.startsWith("/account/")) {
+        this.singleDeletes.incrementAndGet();
+        UUID accountId = UUID.fromString(path.substring("/account/".length()));
+        this.accountsByClient.values()
+            .forEach(accounts -> accounts.removeIf(account -> accountId.equals(account.getId())));
+        exchange.sendResponseHeaders(200, -1);
+      } else {
+        exchange.sendResponseHeaders(404, -1);
+      }
+    }
+  }
+
+  private UUID clientId(HttpExchange exchange) {
+    String query = exchange.getRequestURI().getQuery();
+    int start = query == null ? -1 : query.indexOf(CLIENT_ID_PARAM);
+    if (start < 0) {
+      return new UUID(0, 0);
+    }
+    int end = query.indexOf('&', start);
+    return UUID.fromString(query.substring(start + CLIENT_ID_PARAM.length(),
+        end < 0 ? query.length() : end));
+  }
+
+  private void sendJson(HttpExchange exchange, byte[] body) throws IOException {
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+  }
+
+  private void simulateLatency() {
+    if (this.latencyMillis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(this.latencyMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.danny.customerms;
+
+import com.danny.customerms.api.CustomerApiDelegate;
+import com.danny.customerms.business.CustomerService;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.model.ModelApiResponse;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+public class CustomerDelegateImpl implements CustomerApiDelegate {
+
+  static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+  @Autowired
+  CustomerService customerService;
+
+  @Override
+  public Mono<ResponseEntity<CustomerResponse>> createCustomer(
+      Mono<CustomerRequest> customerRequest, ServerWebExchange exchange) {
+    return customerRequest.flatMap(this.customerService::createCustomer).map(ResponseEntity::ok);
+  }
+
+  @Override
+  public Mono<ResponseEntity<ModelApiResponse>> deleteCustomer(UUID id,
+      ServerWebExchange exchange) {
+    return this.customerService.deleteCustomer(id).map(ResponseEntity::ok);
+  }
+
+  @Override
+  public Mono<ResponseEntity<CustomerResponse>> findCustomerById(UUID id,
+      ServerWebExchange exchange) {
+    return this.customerService.getCustomerDetails(id).map(ResponseEntity::ok);
+  }
+
+  /**
+   * Los clientes de la pagina se escriben a medida que R2DBC los entrega, con la demanda que
+   * permite la conexion HTTP.
+   */
+  @Override
+  public Mono<ResponseEntity<Flux<CustomerResponse>>> findCustomers(Integer limit, Integer offset,
+      String after, ServerWebExchange exchange) {
+    return this.customerService.getCustomers(limit, offset, after).map(page -> {
+      HttpHeaders headers = new HttpHeaders();
+      if (page.getNextCursor() != null) {
+        headers.add(NEXT_CURSOR_HEADER, page.getNextCursor());
+      }
+      if (page.getApproximateTotal() != null) {
+        headers.add(TOTAL_COUNT_HEADER, String.valueOf(page.getApproximateTotal()));
+      }
+      return ResponseEntity.ok().headers(headers).body(page.getCustomers());
+    });
+  }
+
+  @Override
+  public Mono<ResponseEntity<CustomerResponse>> updateCustomer(UUID id,
+      Mono<CustomerRequest> customerRequest, ServerWebExchange exchange) {
+    return customerRequest.flatMap(request -> this.customerService.updateCustomer(id, request))
+        .map(ResponseEntity::ok);
+  }
+}
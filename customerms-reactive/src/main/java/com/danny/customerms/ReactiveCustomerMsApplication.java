@@ -0,0 +1,13 @@
+package com.danny.customerms;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveCustomerMsApplication {
+
+  public static void main(String[] args) {
+    SpringApplication.run(ReactiveCustomerMsApplication.class, args);
+  }
+
+}
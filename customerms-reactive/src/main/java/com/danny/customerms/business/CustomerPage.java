@@ -0,0 +1,19 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.model.CustomerResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+
+/**
+ * Pagina de clientes. Los clientes se emiten a medida que llegan de la base de datos; el cursor
+ * y el total se conocen antes de empezar a escribir la respuesta.
+ */
+@Getter
+@AllArgsConstructor
+public class CustomerPage {
+
+  private final Flux<CustomerResponse> customers;
+  private final String nextCursor;
+  private final Long approximateTotal;
+}
@@ -0,0 +1,20 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.model.ModelApiResponse;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+public interface CustomerService {
+
+  Mono<CustomerResponse> createCustomer(CustomerRequest customerRequest);
+
+  Mono<CustomerPage> getCustomers(int limit, int offset, String after);
+
+  Mono<CustomerResponse> getCustomerDetails(UUID id);
+
+  Mono<CustomerResponse> updateCustomer(UUID id, CustomerRequest newCustomerData);
+
+  Mono<ModelApiResponse> deleteCustomer(UUID id);
+}
@@ -0,0 +1,193 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.clients.AccountClient;
+import com.danny.customerms.exception.AccountDeletionException;
+import com.danny.customerms.exception.BadPetitionException;
+import com.danny.customerms.exception.ConflictException;
+import com.danny.customerms.exception.NotFoundException;
+import com.danny.customerms.model.AccountResponse;
+import com.danny.customerms.model.Customer;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.model.ModelApiResponse;
+import com.danny.customerms.repository.CustomerRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class CustomerServiceImpl implements CustomerService {
+
+  private static final String ACTIVE_ACCOUNTS_MESSAGE =
+      "Las cuentas bancarias deben tener un saldo igual a 0 para eliminar cliente";
+
+  @Autowired
+  CustomerRepository customerRepository;
+  @Autowired
+  R2dbcEntityTemplate entityTemplate;
+  @Autowired
+  CustomerMapper customerMapper;
+  @Autowired
+  CustomerValidator customerValidator;
+  @Autowired
+  AccountClient accountClient;
+
+  @Value("${account.client.max-concurrency:8}")
+  int accountMaxConcurrency;
+  @Value("${account.client.delete-timeout:PT5S}")
+  Duration accountDeleteTimeout;
+  @Value("${customer.pagination.count-ttl:PT30S}")
+  Duration countTtl;
+
+  private Mono<Long> approximateCustomerCount;
+
+  @PostConstruct
+  void init() {
+    this.approximateCustomerCount = Mono.defer(() -> this.customerRepository.count())
+        .cache(this.countTtl);
+  }
+
+  @Override
+  public Mono<CustomerResponse> createCustomer(CustomerRequest customerRequest) {
+    return Mono.fromCallable(() -> {
+          this.customerValidator.requireValid(this.customerValidator.validate(customerRequest));
+          Customer customer = this.customerMapper.getCustomerFromRequest(customerRequest);
+          customer.setId(UUID.randomUUID());
+          customer.normalizeSearchColumns();
+          return customer;
+        })
+        .flatMap(customer -> this.entityTemplate.insert(customer))
+        .onErrorMap(DataIntegrityViolationException.class,
+            e -> constraintError(e, "Email ya registrado", "DNI ya registrado", true))
+        .map(this.customerMapper::getCustomerResponseFromCustomer);
+  }
+
+  @Override
+  public Mono<CustomerPage> getCustomers(int limit, int offset, String after) {
+    return Mono.defer(() -> {
+      int pageSize = (0 >= limit) ? 20 : limit;
+      Flux<Customer> customers;
+      Flux<UUID> boundary;
+      if (after != null && !after.isBlank()) {
+        UUID afterId = CustomerCursor.decode(after);
+        customers = this.customerRepository.findPageAfter(afterId, pageSize);
+        boundary = this.customerRepository.findPageBoundaryAfter(afterId, pageSize - 1);
+      } else {
+        long start = Math.max(offset, 0);
+        customers = this.customerRepository.findPage(pageSize, start);
+        boundary = this.customerRepository.findPageBoundary(start + pageSize - 1);
+      }
+      Mono<String> nextCursor = boundary.collectList()
+          .map(ids -> ids.size() == 2 ? CustomerCursor.encode(ids.get(0)) : "");
+      return Mono.zip(nextCursor, this.approximateCustomerCount)
+          .map(pageInfo -> new CustomerPage(
+              customers.map(this.customerMapper::getCustomerResponseFromCustomer),
+              pageInfo.getT1().isEmpty() ? null : pageInfo.getT1(), pageInfo.getT2()));
+    });
+  }
+
+  @Override
+  public Mono<CustomerResponse> getCustomerDetails(UUID id) {
+    return this.customerRepository.findById(id)
+        .switchIfEmpty(Mono.error(() -> new NotFoundException("Cliente no encontrado")))
+        .map(this.customerMapper::getCustomerResponseFromCustomer);
+  }
+
+  @Override
+  public Mono<CustomerResponse> updateCustomer(UUID id, CustomerRequest customerRequest) {
+    return Mono.fromRunnable(() -> this.customerValidator.requireValid(
+            this.customerValidator.validateChanges(customerRequest)))
+        .then(this.customerRepository.findById(id))
+        .switchIfEmpty(Mono.error(() -> new NotFoundException("Not found")))
+        .flatMap(customer -> {
+          if (customerRequest.getEmail() != null) {
+            customer.setEmail(customerRequest.getEmail());
+          }
+          if (customerRequest.getDni() != null) {
+            customer.setDni(customerRequest.getDni());
+          }
+          if (customerRequest.getNombre() != null) {
+            customer.setNombre(customerRequest.getNombre());
+          }
+          if (customerRequest.getApellido() != null) {
+            customer.setApellido(customerRequest.getApellido());
+          }
+          customer.normalizeSearchColumns();
+          return this.customerRepository.save(customer);
+        })
+        .onErrorMap(DataIntegrityViolationException.class,
+            e -> constraintError(e, "Email ya registrado en otro usuario",
+                "DNI ya registrado en otro usuario", false))
+        .map(this.customerMapper::getCustomerResponseFromCustomer);
+  }
+
+  @Override
+  public Mono<ModelApiResponse> deleteCustomer(UUID id) {
+    return this.customerRepository.existsById(id)
+        .flatMap(exists -> exists
+            ? this.accountClient.getAccountsByClientId(id).collectList()
+            : Mono.error(new NotFoundException("Cliente no existe o ya se encuentra eliminado")))
+        .flatMap(accounts -> {
+          if (accounts.stream().anyMatch(account -> account.getSaldo() != 0.0)) {
+            return Mono.error(new BadPetitionException(ACTIVE_ACCOUNTS_MESSAGE));
+          }
+          return this.deleteAccounts(id, accounts);
+        })
+        .then(Mono.defer(() -> this.customerRepository.deleteById(id)))
+        .then(Mono.fromSupplier(() -> {
+          ModelApiResponse response = new ModelApiResponse();
+          response.setMessage("Cliente borrado exitosamente");
+          return response;
+        }));
+  }
+
+  private Mono<Void> deleteAccounts(UUID clientId, List<AccountResponse> accounts) {
+    if (accounts.isEmpty()) {
+      return Mono.empty();
+    }
+    return this.accountClient.deleteAccountsByClientId(clientId)
+        .flatMap(deleted -> deleted
+            ? Mono.<Void>empty()
+            : this.sendOrderToDeleteAccounts(accounts));
+  }
+
+  /**
+   * Elimina las cuentas con a lo mas {@code account.client.max-concurrency} peticiones en curso:
+   * flatMap solo pide la siguiente cuenta cuando termina una eliminacion.
+   */
+  private Mono<Void> sendOrderToDeleteAccounts(List<AccountResponse> accounts) {
+    return Flux.fromIterable(accounts)
+        .flatMap(account -> this.accountClient.deleteAccount(account.getId())
+            .timeout(this.accountDeleteTimeout)
+            .then(Mono.<UUID>empty())
+            .onErrorResume(error -> Mono.just(account.getId())), this.accountMaxConcurrency)
+        .collectList()
+        .flatMap(failedAccounts -> failedAccounts.isEmpty()
+            ? Mono.<Void>empty()
+            : Mono.<Void>error(new AccountDeletionException(failedAccounts)));
+  }
+
+  private static Throwable constraintError(DataIntegrityViolationException e,
+      String emailMessage, String dniMessage, boolean conflict) {
+    String message = String.valueOf(e.getMostSpecificCause().getMessage())
+        .toLowerCase(Locale.ROOT);
+    if (message.contains(Customer.EMAIL_CONSTRAINT)) {
+      return conflict
+          ? new ConflictException(emailMessage)
+          : new BadPetitionException(emailMessage);
+    }
+    if (message.contains(Customer.DNI_CONSTRAINT)) {
+      return conflict ? new ConflictException(dniMessage) : new BadPetitionException(dniMessage);
+    }
+    return e;
+  }
+}
@@ -0,0 +1,83 @@
+package com.danny.customerms.clients;
+
+import com.danny.customerms.exception.BadPetitionException;
+import com.danny.customerms.model.AccountResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cliente no bloqueante de ACCOUNTMS. Ninguna llamada ocupa un hilo mientras espera la respuesta.
+ */
+@Component
+public class AccountClient {
+
+  @Autowired
+  @Qualifier("accountWebClient")
+  private WebClient accountWebClient;
+
+  @Value("${account.client.read-timeout:PT5S}")
+  private Duration readTimeout;
+
+  @Value("${account.client.bulk-delete-enabled:true}")
+  private boolean bulkDeleteEnabled;
+
+  private final AtomicBoolean bulkDeleteSupported = new AtomicBoolean(true);
+
+  public Flux<AccountResponse> getAccountsByClientId(UUID id) {
+    return this.accountWebClient.get()
+        .uri(uri -> uri.path("/account").queryParam("clienteId", id).build())
+        .retrieve()
+        .bodyToFlux(AccountResponse.class)
+        .timeout(this.readTimeout)
+        .onErrorMap(error -> !(error instanceof BadPetitionException), AccountClient::translate);
+  }
+
+  public Mono<Void> deleteAccount(UUID id) {
+    return this.accountWebClient.delete()
+        .uri("/account/{id}", id)
+        .retrieve()
+        .toBodilessEntity()
+        .timeout(this.readTimeout)
+        .then();
+  }
+
+  /**
+   * Elimina todas las cuentas del cliente con una sola peticion. Emite false si ACCOUNTMS no
+   * ofrece la operacion; en ese caso no se vuelve a intentar y se deben eliminar una por una.
+   */
+  public Mono<Boolean> deleteAccountsByClientId(UUID clientId) {
+    if (!this.bulkDeleteEnabled || !this.bulkDeleteSupported.get()) {
+      return Mono.just(false);
+    }
+    return this.accountWebClient.delete()
+        .uri(uri -> uri.path("/account").queryParam("clienteId", clientId).build())
+        .retrieve()
+        .toBodilessEntity()
+        .timeout(this.readTimeout)
+        .thenReturn(true)
+        .onErrorResume(error -> error instanceof WebClientResponseException.NotFound
+            || error instanceof WebClientResponseException.MethodNotAllowed
+            || error instanceof WebClientResponseException.NotImplemented, error -> {
+          this.bulkDeleteSupported.set(false);
+          return Mono.just(false);
+        })
+        .onErrorMap(error -> !(error instanceof BadPetitionException), AccountClient::translate);
+  }
+
+  private static Throwable translate(Throwable error) {
+    if (error instanceof WebClientResponseException response
+        && response.getStatusCode().is4xxClientError()) {
+      return new BadPetitionException("Error cuentas no encontradas");
+    }
+    return new RuntimeException("Error inesperado: " + error.getMessage());
+  }
+}
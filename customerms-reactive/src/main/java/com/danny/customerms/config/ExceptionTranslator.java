@@ -1,10 +1,12 @@
 package com.danny.customerms.config;
 
+import com.danny.customerms.exception.AccountDeletionException;
 import com.danny.customerms.exception.BadPetitionException;
 import com.danny.customerms.exception.ConflictException;
 import com.danny.customerms.exception.NotFoundException;
-import com.danny.customerms.exception.UnAuthorizedException;
 import com.danny.customerms.model.Error;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -12,9 +14,6 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class ExceptionTranslator {
 
-  public ExceptionTranslator() {
-  }
-
   @ExceptionHandler({BadPetitionException.class})
   public ResponseEntity<Error> badPetitionException(final BadPetitionException e) {
     Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
@@ -27,18 +26,26 @@ public class ExceptionTranslator {
     return this.formErrorResponse(e.getStatusCode(), generatedError);
   }
 
-  @ExceptionHandler({UnAuthorizedException.class})
-  public ResponseEntity<Error> unauthorizedException(final UnAuthorizedException e) {
+  @ExceptionHandler({ConflictException.class})
+  public ResponseEntity<Error> unprocessableException(final ConflictException e) {
     Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
     return this.formErrorResponse(e.getStatusCode(), generatedError);
   }
 
-  @ExceptionHandler({ConflictException.class})
-  public ResponseEntity<Error> unprocessableException(final ConflictException e) {
+  @ExceptionHandler({AccountDeletionException.class})
+  public ResponseEntity<Error> accountDeletionException(final AccountDeletionException e) {
     Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
     return this.formErrorResponse(e.getStatusCode(), generatedError);
   }
 
+  @ExceptionHandler({DataIntegrityViolationException.class})
+  public ResponseEntity<Error> dataIntegrityViolationException(
+      final DataIntegrityViolationException e) {
+    Error generatedError = this.createErrorModel("Los datos entran en conflicto con otro registro",
+        HttpStatus.CONFLICT.value());
+    return this.formErrorResponse(HttpStatus.CONFLICT.value(), generatedError);
+  }
+
   private Error createErrorModel(String message, Integer code) {
     Error error = new Error();
     error.setCode(code);
@@ -0,0 +1,21 @@
+package com.danny.customerms.config;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class WebClientConfig {
+
+  @Bean
+  @LoadBalanced
+  public WebClient.Builder loadBalancedWebClientBuilder() {
+    return WebClient.builder();
+  }
+
+  @Bean
+  public WebClient accountWebClient(@LoadBalanced WebClient.Builder loadBalancedWebClientBuilder) {
+    return loadBalancedWebClientBuilder.baseUrl("http://ACCOUNTMS").build();
+  }
+}
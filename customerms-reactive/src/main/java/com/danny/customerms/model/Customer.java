@@ -0,0 +1,41 @@
+package com.danny.customerms.model;
+
+import com.danny.customerms.business.SearchText;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("customer")
+public class Customer {
+
+  public static final String EMAIL_CONSTRAINT = "uk_customer_email";
+  public static final String DNI_CONSTRAINT = "uk_customer_dni";
+
+  @Id
+  private UUID id;
+  private String nombre;
+  private String apellido;
+  private String dni;
+  private String email;
+  private String nombreNorm;
+  private String apellidoNorm;
+  private String emailNorm;
+  @Version
+  private Long version;
+
+  /**
+   * R2DBC no tiene @PrePersist/@PreUpdate; se llama antes de cada insert o save.
+   */
+  public void normalizeSearchColumns() {
+    this.nombreNorm = SearchText.normalize(this.nombre);
+    this.apellidoNorm = SearchText.normalize(this.apellido);
+    this.emailNorm = SearchText.normalize(this.email);
+  }
+}
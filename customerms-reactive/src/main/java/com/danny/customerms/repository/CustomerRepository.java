@@ -0,0 +1,26 @@
+package com.danny.customerms.repository;
+
+import com.danny.customerms.model.Customer;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+public interface CustomerRepository extends ReactiveCrudRepository<Customer, UUID> {
+
+  @Query("SELECT * FROM customer ORDER BY id LIMIT :limit OFFSET :offset")
+  Flux<Customer> findPage(int limit, long offset);
+
+  @Query("SELECT * FROM customer WHERE id > :after ORDER BY id LIMIT :limit")
+  Flux<Customer> findPageAfter(UUID after, int limit);
+
+  /**
+   * Los ids en las posiciones {@code offset} y {@code offset + 1}: el ultimo de la pagina y, si
+   * existe, el primero de la siguiente.
+   */
+  @Query("SELECT id FROM customer ORDER BY id LIMIT 2 OFFSET :offset")
+  Flux<UUID> findPageBoundary(long offset);
+
+  @Query("SELECT id FROM customer WHERE id > :after ORDER BY id LIMIT 2 OFFSET :offset")
+  Flux<UUID> findPageBoundaryAfter(UUID after, long offset);
+}
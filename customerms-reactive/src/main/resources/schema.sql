@@ -0,0 +1,19 @@
+CREATE TABLE customer (
+    id            UUID         NOT NULL,
+    nombre        VARCHAR(30)  NOT NULL,
+    apellido      VARCHAR(60)  NOT NULL,
+    dni           VARCHAR(8)   NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    nombre_norm   VARCHAR(30),
+    apellido_norm VARCHAR(60),
+    email_norm    VARCHAR(255),
+    version       BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_customer PRIMARY KEY (id),
+    CONSTRAINT uk_customer_email UNIQUE (email),
+    CONSTRAINT uk_customer_dni UNIQUE (dni)
+);
+
+-- Mismo esquema que dejan las migraciones V1-V4 de customerms, para poder compartir la base.
+CREATE INDEX ix_customer_apellido_norm ON customer (apellido_norm, id);
+CREATE INDEX ix_customer_nombre_norm ON customer (nombre_norm, id);
+CREATE INDEX ix_customer_email_norm ON customer (email_norm, id);
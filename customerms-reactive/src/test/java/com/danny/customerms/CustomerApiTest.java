@@ -0,0 +1,159 @@
+package com.danny.customerms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.danny.customerms.clients.AccountMsStub;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "eureka.client.enabled=false")
+@AutoConfigureWebTestClient
+public class CustomerApiTest {
+
+  private static final AccountMsStub accountMs = AccountMsStub.start();
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Autowired
+  private DatabaseClient databaseClient;
+
+  @DynamicPropertySource
+  static void accountMsProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.cloud.discovery.client.simple.instances[ACCOUNTMS][0].uri",
+        accountMs::baseUrl);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    databaseClient.sql("delete from customer").then().block();
+    accountMs.reset();
+    accountMs.withBulkDeleteSupported(true);
+  }
+
+  @AfterAll
+  public static void stopAccountMs() {
+    accountMs.close();
+  }
+
+  @Test
+  @DisplayName("Test crear y consultar un cliente")
+  public void testCreateAndFindCustomer() {
+    CustomerResponse created = createCustomer("12345678");
+
+    CustomerResponse found = webTestClient.get().uri("/customer/{id}", created.getId())
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(CustomerResponse.class).returnResult().getResponseBody();
+
+    assertNotNull(found);
+    assertEquals("12345678", found.getDni());
+    webTestClient.get().uri("/customer/{id}", UUID.randomUUID())
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+
+  @Test
+  @DisplayName("Test crear un cliente con DNI repetido")
+  public void testCreateCustomerWithDuplicatedDni() {
+    createCustomer("12345678");
+
+    webTestClient.post().uri("/customer")
+        .bodyValue(request("12345678", "otro@example.com"))
+        .exchange()
+        .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @Test
+  @DisplayName("Test listar clientes - paginas con cursor")
+  public void testFindCustomersWithCursor() {
+    for (int i = 0; i < 3; i++) {
+      createCustomer(String.format("%08d", i));
+    }
+
+    List<CustomerResponse> firstPage = webTestClient.get().uri("/customer?limit=2")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals(CustomerDelegateImpl.TOTAL_COUNT_HEADER, "3")
+        .expectBodyList(CustomerResponse.class).returnResult().getResponseBody();
+    String cursor = webTestClient.get().uri("/customer?limit=2")
+        .exchange()
+        .returnResult(CustomerResponse.class).getResponseHeaders()
+        .getFirst(CustomerDelegateImpl.NEXT_CURSOR_HEADER);
+
+    assertNotNull(firstPage);
+    assertEquals(2, firstPage.size());
+    assertNotNull(cursor);
+    webTestClient.get().uri("/customer?limit=2&after={cursor}", cursor)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().doesNotExist(CustomerDelegateImpl.NEXT_CURSOR_HEADER)
+        .expectBodyList(CustomerResponse.class).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente - cuentas eliminadas una por una")
+  public void testDeleteCustomerDeletesAccounts() {
+    CustomerResponse created = createCustomer("12345678");
+    accountMs.withBulkDeleteSupported(false).addAccounts(created.getId(), 3, 0.0);
+
+    webTestClient.delete().uri("/customer/{id}", created.getId())
+        .exchange()
+        .expectStatus().isOk();
+
+    assertEquals(3, accountMs.singleDeletes());
+    assertEquals(0, accountMs.accountCount(created.getId()));
+    webTestClient.get().uri("/customer/{id}", created.getId())
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente - cuentas con saldo")
+  public void testDeleteCustomerWithActiveBalance() {
+    CustomerResponse created = createCustomer("12345678");
+    accountMs.addAccounts(created.getId(), 1, 100.0);
+
+    webTestClient.delete().uri("/customer/{id}", created.getId())
+        .exchange()
+        .expectStatus().isBadRequest();
+
+    assertEquals(0, accountMs.singleDeletes());
+    assertEquals(0, accountMs.bulkDeletes());
+  }
+
+  private CustomerResponse createCustomer(String dni) {
+    CustomerResponse response = webTestClient.post().uri("/customer")
+        .bodyValue(request(dni, "cliente" + dni + "@example.com"))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(CustomerResponse.class).returnResult().getResponseBody();
+    assertNotNull(response);
+    return response;
+  }
+
+  private static CustomerRequest request(String dni, String email) {
+    CustomerRequest request = new CustomerRequest();
+    request.setNombre("Nombre");
+    request.setApellido("Apellido");
+    request.setDni(dni);
+    request.setEmail(email);
+    return request;
+  }
+}
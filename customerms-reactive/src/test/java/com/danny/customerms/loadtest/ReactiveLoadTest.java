@@ -0,0 +1,104 @@
+package com.danny.customerms.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.danny.customerms.clients.AccountMsStub;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Mismo escenario que ThreadingModeLoadTest del servicio servlet: muchas eliminaciones a la vez
+ * contra un ACCOUNTMS lento. Los resultados se registran con el mismo formato para compararlos.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "eureka.client.enabled=false")
+public class ReactiveLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(ReactiveLoadTest.class);
+  private static final int REQUESTS = 400;
+  private static final AccountMsStub accountMs = AccountMsStub.start().withLatency(250);
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private DatabaseClient databaseClient;
+
+  private final List<UUID> customers = new ArrayList<>();
+
+  @DynamicPropertySource
+  static void accountMsProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.cloud.discovery.client.simple.instances[ACCOUNTMS][0].uri",
+        accountMs::baseUrl);
+  }
+
+  @AfterAll
+  public static void stopAccountMs() {
+    accountMs.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    databaseClient.sql("delete from customer").then().block();
+    accountMs.reset();
+    customers.clear();
+    for (int i = 0; i < REQUESTS; i++) {
+      UUID id = UUID.randomUUID();
+      databaseClient.sql(
+              "insert into customer (id, nombre, apellido, dni, email) "
+                  + "values (:id, :nombre, :apellido, :dni, :email)")
+          .bind("id", id)
+          .bind("nombre", "Nombre")
+          .bind("apellido", "Apellido")
+          .bind("dni", String.format("%08d", i))
+          .bind("email", "carga" + i + "@example.com")
+          .then().block();
+      accountMs.addAccounts(id, 1, 0.0);
+      customers.add(id);
+    }
+  }
+
+  @Test
+  void sustainsConcurrentDeletesWithSlowAccountMs() {
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    long start = System.nanoTime();
+    List<CompletableFuture<Long>> responses = customers.stream().map(id -> {
+      long sent = System.nanoTime();
+      return client.sendAsync(HttpRequest.newBuilder(
+                  URI.create("http://localhost:" + port + "/customer/" + id)).DELETE().build(),
+              HttpResponse.BodyHandlers.discarding())
+          .thenApply(response -> {
+            assertEquals(200, response.statusCode());
+            return System.nanoTime() - sent;
+          });
+    }).toList();
+    long totalLatency = responses.stream().mapToLong(CompletableFuture::join).sum();
+    long elapsed = System.nanoTime() - start;
+
+    log.info("Modo {}: {} eliminaciones en {} ms, {} peticiones/s, concurrencia media {}",
+        "reactive", REQUESTS, TimeUnit.NANOSECONDS.toMillis(elapsed),
+        REQUESTS * TimeUnit.SECONDS.toNanos(1) / elapsed, totalLatency / elapsed);
+    assertEquals(0L, databaseClient.sql("select count(*) as total from customer")
+        .map(row -> row.get("total", Long.class)).one().block());
+  }
+}
@@ -0,0 +1,230 @@
+package com.danny.customerms;
+
+import com.danny.customerms.api.CustomerApiDelegate;
+import com.danny.customerms.business.CustomerPage;
+import com.danny.customerms.business.CustomerService;
+import com.danny.customerms.exception.PreconditionFailedException;
+import com.danny.customerms.model.CustomerBatchGetRequest;
+import com.danny.customerms.model.CustomerBatchGetResponse;
+import com.danny.customerms.model.CustomerBulkRequest;
+import com.danny.customerms.model.CustomerBulkResponse;
+import com.danny.customerms.model.CustomerPatchRequest;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.model.ModelApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+
+@Component
+public class CustomerDelegateImpl implements CustomerApiDelegate {
+
+  static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+  static final String NEXT_OFFSET_HEADER = "X-Next-Offset";
+  static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+  @Autowired
+  CustomerService customerService;
+  @Autowired
+  NativeWebRequest nativeWebRequest;
+  @Value("${customer.pagination.streaming-threshold:500}")
+  int streamingThreshold;
+
+  @Override
+  public Optional<NativeWebRequest> getRequest() {
+    return Optional.ofNullable(this.nativeWebRequest);
+  }
+
+  @Override
+  public ResponseEntity<CustomerResponse> createCustomer(CustomerRequest customerRequest) {
+    return ResponseEntity.ok(this.customerService.createCustomer(customerRequest));
+  }
+
+  @Override
+  public ResponseEntity<CustomerBulkResponse> createCustomers(
+      CustomerBulkRequest customerBulkRequest) {
+    return ResponseEntity.ok(
+        this.customerService.createCustomers(customerBulkRequest.getCustomers()));
+  }
+
+  @Override
+  public ResponseEntity<CustomerBatchGetResponse> findCustomersByIds(
+      CustomerBatchGetRequest customerBatchGetRequest) {
+    return ResponseEntity.ok(
+        this.customerService.getCustomersByIds(customerBatchGetRequest.getIds()));
+  }
+
+  @Override
+  public ResponseEntity<ModelApiResponse> deleteCustomer(UUID id) {
+    return ResponseEntity.ok(this.customerService.deleteCustomer(id));
+  }
+
+  /**
+   * Con If-None-Match se compara primero la version del cliente, que no requiere cargarlo ni
+   * serializarlo. Si coincide, checkNotModified responde 304 y devolver null le indica a Spring MVC
+   * que la respuesta ya fue atendida.
+   */
+  @Override
+  public ResponseEntity<CustomerResponse> findCustomerById(UUID id) {
+    if (this.header(HttpHeaders.IF_NONE_MATCH) != null && this.nativeWebRequest.checkNotModified(
+        eTag(this.customerService.getCustomerVersion(id)))) {
+      return null;
+    }
+    CustomerResponse customer = this.customerService.getCustomerDetails(id);
+    return ResponseEntity.ok().eTag(eTag(customer.getVersion())).body(customer);
+  }
+
+  /**
+   * Las paginas de mas de {@code customer.pagination.streaming-threshold} clientes se escriben
+   * directamente sobre la respuesta mientras se leen de la base; como el ETag dependeria de todo
+   * el contenido, esas paginas no lo incluyen.
+   */
+  @Override
+  public ResponseEntity<List<CustomerResponse>> findCustomers(Integer limit, Integer offset,
+      String after) {
+    if (limit != null && limit > this.streamingThreshold) {
+      return this.streamCustomers(limit, offset, after);
+    }
+    CustomerPage page = this.customerService.getCustomers(limit, offset, after);
+    HttpHeaders headers = pageHeaders(page);
+    // Spring MVC responde 304 sin cuerpo si el ETag coincide con If-None-Match
+    headers.setETag(pageETag(page));
+    return ResponseEntity.ok().headers(headers).body(page.getCustomers());
+  }
+
+  private ResponseEntity<List<CustomerResponse>> streamCustomers(int limit, Integer offset,
+      String after) {
+    int start = offset == null ? 0 : offset;
+    CustomerPage page = this.customerService.getCustomerPageInfo(limit, start, after);
+    HttpServletResponse response = this.nativeResponse();
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    pageHeaders(page).forEach((name, values) -> values.forEach(
+        value -> response.addHeader(name, value)));
+    try {
+      this.customerService.writeCustomers(limit, start, after, response.getOutputStream());
+      response.flushBuffer();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return null;
+  }
+
+  @Override
+  public ResponseEntity<List<CustomerResponse>> searchCustomers(String q, Integer limit,
+      Integer offset) {
+    Slice<CustomerResponse> results = this.customerService.searchCustomers(q, limit, offset);
+    HttpHeaders headers = new HttpHeaders();
+    if (results.hasNext()) {
+      headers.add(NEXT_OFFSET_HEADER,
+          String.valueOf(results.getPageable().getOffset() + results.getNumberOfElements()));
+    }
+    return ResponseEntity.ok().headers(headers).body(results.getContent());
+  }
+
+  @Override
+  public ResponseEntity<CustomerResponse> updateCustomer(UUID id, CustomerRequest customerRequest) {
+    CustomerResponse customer = this.customerService.updateCustomer(id, customerRequest,
+        expectedVersion(this.header(HttpHeaders.IF_MATCH)));
+    return ResponseEntity.ok().eTag(eTag(customer.getVersion())).body(customer);
+  }
+
+  @Override
+  public ResponseEntity<CustomerResponse> patchCustomer(UUID id,
+      CustomerPatchRequest customerPatchRequest) {
+    CustomerResponse customer = this.customerService.patchCustomer(id, customerPatchRequest,
+        expectedVersion(this.header(HttpHeaders.IF_MATCH)));
+    return ResponseEntity.ok().eTag(eTag(customer.getVersion())).body(customer);
+  }
+
+  /**
+   * Escribe directamente sobre la respuesta para no acumular los clientes en memoria. Devolver null
+   * le indica a Spring MVC que la respuesta ya fue atendida.
+   */
+  @Override
+  public ResponseEntity<Resource> exportCustomers() {
+    HttpServletResponse response = this.nativeResponse();
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(NDJSON_CONTENT_TYPE);
+    try {
+      this.customerService.exportCustomers(response.getOutputStream());
+      response.flushBuffer();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return null;
+  }
+
+  private HttpServletResponse nativeResponse() {
+    return this.getRequest()
+        .map(request -> request.getNativeResponse(HttpServletResponse.class))
+        .orElseThrow(() -> new IllegalStateException("Streaming requires a servlet response"));
+  }
+
+  private String header(String name) {
+    return this.getRequest().map(request -> request.getHeader(name)).orElse(null);
+  }
+
+  private static HttpHeaders pageHeaders(CustomerPage page) {
+    HttpHeaders headers = new HttpHeaders();
+    if (page.getNextCursor() != null) {
+      headers.add(NEXT_CURSOR_HEADER, page.getNextCursor());
+    }
+    if (page.getApproximateTotal() != null) {
+      headers.add(TOTAL_COUNT_HEADER, String.valueOf(page.getApproximateTotal()));
+    }
+    return headers;
+  }
+
+  static String eTag(Long version) {
+    return "\"" + version + "\"";
+  }
+
+  /**
+   * ETag debil: If-None-Match lo compara igual, y Tomcat no comprime respuestas con un ETag fuerte
+   * porque el cuerpo comprimido ya no seria identico byte a byte.
+   */
+  private static String pageETag(CustomerPage page) {
+    StringBuilder versions = new StringBuilder();
+    page.getCustomers().forEach(customer -> versions.append(customer.getId()).append(':')
+        .append(customer.getVersion()).append(','));
+    versions.append(page.getNextCursor());
+    return "W/\"" + DigestUtils.md5DigestAsHex(
+        versions.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+  }
+
+  /**
+   * Version esperada segun If-Match. {@code *} o la ausencia de la cabecera aceptan cualquier
+   * version; un ETag debil o que no corresponde a una version no coincide nunca.
+   */
+  static Long expectedVersion(String ifMatch) {
+    if (ifMatch == null || "*".equals(ifMatch.trim())) {
+      return null;
+    }
+    String value = ifMatch.trim();
+    try {
+      if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+        return Long.valueOf(value.substring(1, value.length() - 1));
+      }
+    } catch (NumberFormatException e) {
+      // se responde 412 igual que con un ETag debil
+    }
+    throw new PreconditionFailedException("El ETag de If-Match no coincide con el cliente");
+  }
+}
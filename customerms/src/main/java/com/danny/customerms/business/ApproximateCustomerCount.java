@@ -0,0 +1,40 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.repository.CustomerRepository;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Total de clientes cacheado. El COUNT se ejecuta como maximo una vez por intervalo y mientras se
+ * recalcula el resto de peticiones recibe el ultimo valor conocido.
+ */
+@Component
+public class ApproximateCustomerCount {
+
+  @Autowired
+  CustomerRepository customerRepository;
+
+  @Value("${customer.pagination.count-ttl:PT30S}")
+  Duration ttl;
+
+  private final AtomicBoolean refreshing = new AtomicBoolean(false);
+  private volatile long total = -1;
+  private volatile long refreshedAt;
+
+  public long get() {
+    long now = System.nanoTime();
+    if ((this.total < 0 || now - this.refreshedAt > this.ttl.toNanos())
+        && this.refreshing.compareAndSet(false, true)) {
+      try {
+        this.total = this.customerRepository.count();
+        this.refreshedAt = System.nanoTime();
+      } finally {
+        this.refreshing.set(false);
+      }
+    }
+    return Math.max(this.total, 0);
+  }
+}
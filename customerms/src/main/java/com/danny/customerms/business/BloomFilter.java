@@ -0,0 +1,80 @@
+package com.danny.customerms.business;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de cadenas, seguro para escrituras y lecturas concurrentes. Nunca da falsos
+ * negativos para un valor agregado; la probabilidad de falso positivo crece a medida que se llena.
+ */
+final class BloomFilter {
+
+  private static final double LN2 = Math.log(2);
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+    long insertions = Math.max(expectedInsertions, 1);
+    long bits = (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+    long wordCount = Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE);
+    this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, wordCount));
+    this.bitCount = (long) this.words.length() * Long.SIZE;
+    this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / insertions * LN2));
+  }
+
+  void put(String value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < this.hashCount; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, this.bitCount);
+      long mask = 1L << bit;
+      int word = (int) (bit >>> 6);
+      if ((this.words.get(word) & mask) == 0) {
+        this.words.accumulateAndGet(word, mask, (current, added) -> current | added);
+      }
+    }
+  }
+
+  boolean mightContain(String value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < this.hashCount; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, this.bitCount);
+      if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Probabilidad de falso positivo estimada con la proporcion actual de bits encendidos.
+   */
+  double expectedFalsePositiveProbability() {
+    long setBits = 0;
+    for (int i = 0; i < this.words.length(); i++) {
+      setBits += Long.bitCount(this.words.get(i));
+    }
+    return Math.pow((double) setBits / this.bitCount, this.hashCount);
+  }
+
+  // FNV-1a de 64 bits sobre los caracteres, con la mezcla final de MurmurHash3
+  private static long hash(String value) {
+    long hash = 0xCBF29CE484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001B3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,33 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.model.Customer;
+import java.util.Locale;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Identifica que indice unico de la tabla customer rechazo una escritura.
+ */
+final class CustomerConstraints {
+
+  private CustomerConstraints() {
+  }
+
+  static boolean isEmailViolation(DataIntegrityViolationException e) {
+    return violates(e, Customer.EMAIL_CONSTRAINT);
+  }
+
+  static boolean isDniViolation(DataIntegrityViolationException e) {
+    return violates(e, Customer.DNI_CONSTRAINT);
+  }
+
+  private static boolean violates(DataIntegrityViolationException e, String constraint) {
+    StringBuilder detail = new StringBuilder();
+    if (e.getCause() instanceof ConstraintViolationException violation
+        && violation.getConstraintName() != null) {
+      detail.append(violation.getConstraintName()).append(' ');
+    }
+    detail.append(e.getMostSpecificCause().getMessage());
+    return detail.toString().toLowerCase(Locale.ROOT).contains(constraint);
+  }
+}
@@ -0,0 +1,101 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.datasource.ReadYourWrites;
+import com.danny.customerms.repository.CustomerRepository;
+import com.danny.customerms.repository.CustomerView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Lectura del detalle de un cliente compartida entre peticiones concurrentes: mientras una consulta
+ * por un id esta en curso, las demas peticiones por el mismo id esperan su resultado, o su
+ * excepcion, en lugar de consultar la base otra vez. Solo se comparten consultas que van a la misma
+ * base: una peticion que debe leer de la principal no espera una consulta hecha en una replica.
+ * Cada peticion que se une a una consulta en curso suma uno a {@code customer.details.coalesced}.
+ *
+ * <p>Debe llamarse fuera de una transaccion: solo quien hace la consulta abre la transaccion de
+ * lectura, asi las peticiones que esperan no retienen una conexion del pool.
+ */
+@Component
+public class CustomerDetailsLoader {
+
+  static final String COALESCED_METRIC = "customer.details.coalesced";
+
+  @Autowired
+  CustomerRepository customerRepository;
+  @Autowired
+  ReadYourWrites readYourWrites;
+  @Autowired
+  MeterRegistry meterRegistry;
+  @Autowired
+  PlatformTransactionManager transactionManager;
+
+  private final ConcurrentMap<Flight, CompletableFuture<Optional<CustomerView>>> inFlight =
+      new ConcurrentHashMap<>();
+  private Counter coalesced;
+  private TransactionTemplate readOnlyTransaction;
+
+  @PostConstruct
+  void init() {
+    this.readOnlyTransaction = new TransactionTemplate(this.transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.coalesced = Counter.builder(COALESCED_METRIC)
+        .description("Lecturas de detalle atendidas por una consulta ya en curso")
+        .register(this.meterRegistry);
+  }
+
+  public Optional<CustomerView> load(UUID id) {
+    boolean primary = this.readYourWrites.requiresPrimary(id);
+    Flight key = new Flight(id, primary);
+    CompletableFuture<Optional<CustomerView>> flight = new CompletableFuture<>();
+    CompletableFuture<Optional<CustomerView>> current = this.inFlight.putIfAbsent(key, flight);
+    if (current != null) {
+      this.coalesced.increment();
+      return await(current);
+    }
+    try {
+      Optional<CustomerView> customer = primary
+          ? this.readYourWrites.onPrimary(() -> this.query(id))
+          : this.query(id);
+      flight.complete(customer);
+      return customer;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      this.inFlight.remove(key, flight);
+    }
+  }
+
+  private Optional<CustomerView> query(UUID id) {
+    return this.readOnlyTransaction.execute(status -> this.customerRepository.findViewById(id));
+  }
+
+  private static Optional<CustomerView> await(CompletableFuture<Optional<CustomerView>> flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private record Flight(UUID id, boolean primary) {
+  }
+}
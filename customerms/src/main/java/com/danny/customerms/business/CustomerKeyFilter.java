@@ -0,0 +1,134 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.repository.CustomerKeys;
+import com.danny.customerms.repository.CustomerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Filtros de Bloom con los emails y DNIs registrados, para saltar la consulta de datos repetidos
+ * cuando ninguno puede existir. Se construyen al iniciar y se reconstruyen cada
+ * {@code customer.key-filter.rebuild-interval} para descartar los datos de clientes eliminados o
+ * modificados. Son solo una optimizacion: un dato que falte en el filtro, por ejemplo uno
+ * registrado por otra instancia, lo sigue rechazando la restriccion unica de la base.
+ */
+@Component
+public class CustomerKeyFilter {
+
+  static final String FPP_METRIC = "customer.key-filter.fpp";
+  static final String CHECKS_METRIC = "customer.key-filter.checks";
+
+  @Autowired
+  CustomerRepository customerRepository;
+  @Autowired
+  MeterRegistry meterRegistry;
+
+  @Value("${customer.key-filter.enabled:true}")
+  boolean enabled;
+  @Value("${customer.key-filter.expected-insertions:1000000}")
+  long expectedInsertions;
+  @Value("${customer.key-filter.fpp:0.01}")
+  double falsePositiveProbability;
+
+  private volatile Filters current;
+  private volatile Filters building;
+  private Counter absent;
+  private Counter maybePresent;
+
+  @PostConstruct
+  void init() {
+    this.registerFpp("email", Filters::emails);
+    this.registerFpp("dni", Filters::dnis);
+    this.absent = this.checks("absent");
+    this.maybePresent = this.checks("maybe-present");
+  }
+
+  /**
+   * Arma filtros nuevos dimensionados para el doble de los clientes actuales. Los datos agregados
+   * mientras se recorre la tabla van a los filtros actuales y a los nuevos.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(initialDelayString = "${customer.key-filter.rebuild-interval:PT1H}",
+      fixedDelayString = "${customer.key-filter.rebuild-interval:PT1H}")
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    if (!this.enabled) {
+      return;
+    }
+    long expected = Math.max(this.expectedInsertions, this.customerRepository.count() * 2);
+    Filters next = new Filters(new BloomFilter(expected, this.falsePositiveProbability),
+        new BloomFilter(expected, this.falsePositiveProbability));
+    this.building = next;
+    try (Stream<CustomerKeys> keys = this.customerRepository.streamKeys()) {
+      keys.forEach(key -> next.add(key.getEmail(), key.getDni()));
+      this.current = next;
+    } finally {
+      this.building = null;
+    }
+  }
+
+  /**
+   * false solo si ningun email ni DNI puede estar registrado. Mientras no haya filtros responde
+   * true y se consulta la base.
+   */
+  public boolean mightContainAny(Collection<String> emails, Collection<String> dnis) {
+    Filters filters = this.current;
+    if (filters == null) {
+      return true;
+    }
+    boolean maybe = emails.stream().anyMatch(filters.emails()::mightContain)
+        || dnis.stream().anyMatch(filters.dnis()::mightContain);
+    (maybe ? this.maybePresent : this.absent).increment();
+    return maybe;
+  }
+
+  public void add(String email, String dni) {
+    Filters filters = this.current;
+    if (filters != null) {
+      filters.add(email, dni);
+    }
+    filters = this.building;
+    if (filters != null) {
+      filters.add(email, dni);
+    }
+  }
+
+  private void registerFpp(String key, Function<Filters, BloomFilter> filter) {
+    Gauge.builder(FPP_METRIC, this, keyFilter -> keyFilter.current == null ? Double.NaN
+            : filter.apply(keyFilter.current).expectedFalsePositiveProbability())
+        .tag("key", key)
+        .description("Probabilidad estimada de falso positivo del filtro")
+        .register(this.meterRegistry);
+  }
+
+  private Counter checks(String result) {
+    return Counter.builder(CHECKS_METRIC)
+        .tag("result", result)
+        .description("Verificaciones de datos repetidos segun la respuesta del filtro")
+        .register(this.meterRegistry);
+  }
+
+  private record Filters(BloomFilter emails, BloomFilter dnis) {
+
+    void add(String email, String dni) {
+      if (email != null) {
+        this.emails.put(email);
+      }
+      if (dni != null) {
+        this.dnis.put(dni);
+      }
+    }
+  }
+}
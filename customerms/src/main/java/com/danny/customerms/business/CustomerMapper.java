@@ -0,0 +1,62 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.model.Customer;
+import com.danny.customerms.model.CustomerPatchRequest;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.repository.CustomerView;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerMapper {
+
+  public Customer getCustomerFromRequest(CustomerRequest customerRequest) {
+    Customer customer = new Customer();
+    customer.setNombre(customerRequest.getNombre());
+    customer.setApellido(customerRequest.getApellido());
+    customer.setDni(customerRequest.getDni());
+    customer.setEmail(customerRequest.getEmail());
+    return customer;
+  }
+
+  /**
+   * Respuesta con los campos enviados en el PATCH aplicados sobre {@code current}, con la version
+   * siguiente. No modifica {@code current}.
+   */
+  public CustomerResponse applyPatch(CustomerResponse current, CustomerPatchRequest patchRequest) {
+    CustomerResponse customerResponse = new CustomerResponse();
+    customerResponse.setId(current.getId());
+    customerResponse.setNombre(patchRequest.getNombre() != null ? patchRequest.getNombre()
+        : current.getNombre());
+    customerResponse.setApellido(patchRequest.getApellido() != null ? patchRequest.getApellido()
+        : current.getApellido());
+    customerResponse.setDni(patchRequest.getDni() != null ? patchRequest.getDni()
+        : current.getDni());
+    customerResponse.setEmail(patchRequest.getEmail() != null ? patchRequest.getEmail()
+        : current.getEmail());
+    customerResponse.setVersion(current.getVersion() + 1);
+    return customerResponse;
+  }
+
+  public CustomerResponse getCustomerResponseFromCustomer(Customer customer) {
+    CustomerResponse customerResponse = new CustomerResponse();
+    customerResponse.setId(customer.getId());
+    customerResponse.setNombre(customer.getNombre());
+    customerResponse.setApellido(customer.getApellido());
+    customerResponse.setDni(customer.getDni());
+    customerResponse.setEmail(customer.getEmail());
+    customerResponse.setVersion(customer.getVersion());
+    return customerResponse;
+  }
+
+  public CustomerResponse getCustomerResponseFromView(CustomerView customer) {
+    CustomerResponse customerResponse = new CustomerResponse();
+    customerResponse.setId(customer.id());
+    customerResponse.setNombre(customer.nombre());
+    customerResponse.setApellido(customer.apellido());
+    customerResponse.setDni(customer.dni());
+    customerResponse.setEmail(customer.email());
+    customerResponse.setVersion(customer.version());
+    return customerResponse;
+  }
+}
@@ -0,0 +1,15 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.model.CustomerResponse;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CustomerPage {
+
+  private final List<CustomerResponse> customers;
+  private final String nextCursor;
+  private final Long approximateTotal;
+}
@@ -0,0 +1,41 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.model.CustomerBatchGetResponse;
+import com.danny.customerms.model.CustomerBulkResponse;
+import com.danny.customerms.model.CustomerPatchRequest;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.model.ModelApiResponse;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Slice;
+
+public interface CustomerService {
+
+  CustomerResponse createCustomer(CustomerRequest customerRequest);
+
+  CustomerBulkResponse createCustomers(List<CustomerRequest> customerRequests);
+
+  CustomerPage getCustomers(int limit, int offset, String after);
+
+  CustomerPage getCustomerPageInfo(int limit, int offset, String after);
+
+  void writeCustomers(int limit, int offset, String after, OutputStream outputStream);
+
+  Slice<CustomerResponse> searchCustomers(String query, int limit, int offset);
+
+  CustomerResponse getCustomerDetails(UUID id);
+
+  CustomerBatchGetResponse getCustomersByIds(List<UUID> ids);
+
+  Long getCustomerVersion(UUID id);
+
+  CustomerResponse updateCustomer(UUID id, CustomerRequest newCustomerData, Long expectedVersion);
+
+  CustomerResponse patchCustomer(UUID id, CustomerPatchRequest patchRequest, Long expectedVersion);
+
+  ModelApiResponse deleteCustomer(UUID id);
+
+  void exportCustomers(OutputStream outputStream);
+}
@@ -0,0 +1,671 @@
+package com.danny.customerms.business;
+
+import com.danny.customerms.clients.AccountClient;
+import com.danny.customerms.config.AccountExecutorConfig;
+import com.danny.customerms.config.CacheConfig;
+import com.danny.customerms.datasource.ReadYourWrites;
+import com.danny.customerms.exception.AccountDeletionException;
+import com.danny.customerms.exception.BadPetitionException;
+import com.danny.customerms.exception.ConflictException;
+import com.danny.customerms.exception.NotFoundException;
+import com.danny.customerms.exception.PreconditionFailedException;
+import com.danny.customerms.model.AccountResponse;
+import com.danny.customerms.model.Customer;
+import com.danny.customerms.model.CustomerBatchGetResponse;
+import com.danny.customerms.model.CustomerBulkResponse;
+import com.danny.customerms.model.CustomerBulkResult;
+import com.danny.customerms.model.CustomerBulkResult.StatusEnum;
+import com.danny.customerms.model.CustomerPatchRequest;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.model.ModelApiResponse;
+import com.danny.customerms.repository.CustomerKeys;
+import com.danny.customerms.repository.CustomerRepository;
+import com.danny.customerms.repository.CustomerView;
+import com.danny.customerms.repository.OffsetPageRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Timed(value = "customer.service", histogram = true)
+public class CustomerServiceImpl implements CustomerService {
+
+  private static final String ACTIVE_ACCOUNTS_MESSAGE =
+      "Las cuentas bancarias deben tener un saldo igual a 0 para eliminar cliente";
+  private static final String MODIFIED_MESSAGE = "El cliente fue modificado por otra peticion";
+  // Limites del contrato (openapi.yml): el generador emite anotaciones javax.validation que
+  // Spring Boot 3 no aplica, asi que se comprueban aqui
+  static final int MAX_BULK_SIZE = 5000;
+  static final int MAX_BATCH_GET_IDS = 1000;
+  static final int MAX_SEARCH_QUERY_LENGTH = 255;
+  static final int MAX_SEARCH_LIMIT = 100;
+  // Cada columna se consulta con offset + limit candidatos: acotar el offset acota esas listas
+  static final int MAX_SEARCH_OFFSET = 10_000;
+
+  @Autowired
+  CustomerRepository customerRepository;
+  @Autowired
+  CustomerMapper customerMapper;
+  @Autowired
+  AccountClient accountClient;
+  @Autowired
+  CustomerValidator customerValidator;
+  @Autowired
+  ApproximateCustomerCount approximateCustomerCount;
+  @Autowired
+  ReadYourWrites readYourWrites;
+  @Autowired
+  CustomerDetailsLoader customerDetailsLoader;
+  @Autowired
+  CustomerKeyFilter customerKeyFilter;
+  @Autowired
+  ObjectMapper objectMapper;
+  @Autowired
+  CacheManager cacheManager;
+  @PersistenceContext
+  EntityManager entityManager;
+
+  @Autowired
+  @Qualifier(AccountExecutorConfig.ACCOUNT_EXECUTOR)
+  AsyncTaskExecutor accountExecutor;
+
+  @Value("${customer.bulk.chunk-size:500}")
+  int bulkChunkSize;
+  @Value("${customer.batch-get.chunk-size:500}")
+  int batchGetChunkSize;
+  @Value("${account.client.delete-timeout:PT5S}")
+  Duration accountDeleteTimeout;
+
+  @Override
+  public CustomerResponse createCustomer(CustomerRequest customerRequest) {
+    this.customerValidator.requireValid(this.customerValidator.validate(customerRequest));
+    Customer customer = this.customerMapper.getCustomerFromRequest(customerRequest);
+
+    try {
+      this.customerRepository.saveAndFlush(customer);
+    } catch (DataIntegrityViolationException e) {
+      if (CustomerConstraints.isEmailViolation(e)) {
+        throw new ConflictException("Email ya registrado");
+      }
+      if (CustomerConstraints.isDniViolation(e)) {
+        throw new ConflictException("DNI ya registrado");
+      }
+      throw e;
+    }
+    this.readYourWrites.recordWrite(customer.getId());
+    this.customerKeyFilter.add(customer.getEmail(), customer.getDni());
+    return this.customerMapper.getCustomerResponseFromCustomer(customer);
+  }
+
+  @Override
+  public CustomerBulkResponse createCustomers(List<CustomerRequest> customerRequests) {
+    if (customerRequests == null || customerRequests.isEmpty()
+        || customerRequests.size() > MAX_BULK_SIZE) {
+      throw new BadPetitionException(
+          "El lote debe tener entre 1 y " + MAX_BULK_SIZE + " clientes");
+    }
+    CustomerBulkResult[] results = new CustomerBulkResult[customerRequests.size()];
+    Set<String> batchEmails = new HashSet<>();
+    Set<String> batchDnis = new HashSet<>();
+    int chunkSize = Math.max(this.bulkChunkSize, 1);
+
+    for (int start = 0; start < customerRequests.size(); start += chunkSize) {
+      int end = Math.min(start + chunkSize, customerRequests.size());
+      List<Integer> indexes = new ArrayList<>(end - start);
+      List<Customer> candidates = new ArrayList<>(end - start);
+
+      for (int i = start; i < end; i++) {
+        List<String> errors = this.customerValidator.validate(customerRequests.get(i));
+        if (!errors.isEmpty()) {
+          results[i] = this.bulkResult(i, StatusEnum.INVALID, String.join(", ", errors));
+          continue;
+        }
+        Customer customer = this.customerMapper.getCustomerFromRequest(customerRequests.get(i));
+        if (batchEmails.contains(customer.getEmail())) {
+          results[i] = this.bulkResult(i, StatusEnum.CONFLICT, "Email repetido en el lote");
+          continue;
+        }
+        if (batchDnis.contains(customer.getDni())) {
+          results[i] = this.bulkResult(i, StatusEnum.CONFLICT, "DNI repetido en el lote");
+          continue;
+        }
+        batchEmails.add(customer.getEmail());
+        batchDnis.add(customer.getDni());
+        indexes.add(i);
+        candidates.add(customer);
+      }
+
+      this.insertChunk(indexes, candidates, results);
+    }
+
+    CustomerBulkResponse response = new CustomerBulkResponse();
+    response.setResults(Arrays.asList(results));
+    int created = (int) response.getResults().stream()
+        .filter(result -> result.getStatus() == StatusEnum.CREATED).count();
+    response.setCreated(created);
+    response.setFailed(results.length - created);
+    return response;
+  }
+
+  private void insertChunk(List<Integer> indexes, List<Customer> candidates,
+      CustomerBulkResult[] results) {
+    if (candidates.isEmpty()) {
+      return;
+    }
+    Set<String> registeredEmails = new HashSet<>();
+    Set<String> registeredDnis = new HashSet<>();
+    List<String> emails = candidates.stream().map(Customer::getEmail).toList();
+    List<String> dnis = candidates.stream().map(Customer::getDni).toList();
+    // Si el filtro descarta todos los datos del bloque no hace falta consultar la base
+    if (this.customerKeyFilter.mightContainAny(emails, dnis)) {
+      for (CustomerKeys keys : this.customerRepository.findByEmailInOrDniIn(emails, dnis)) {
+        registeredEmails.add(keys.getEmail());
+        registeredDnis.add(keys.getDni());
+      }
+    }
+
+    List<Integer> insertIndexes = new ArrayList<>(candidates.size());
+    List<Customer> toInsert = new ArrayList<>(candidates.size());
+    for (int i = 0; i < candidates.size(); i++) {
+      Customer customer = candidates.get(i);
+      int index = indexes.get(i);
+      if (registeredEmails.contains(customer.getEmail())) {
+        results[index] = this.bulkResult(index, StatusEnum.CONFLICT, "Email ya registrado");
+      } else if (registeredDnis.contains(customer.getDni())) {
+        results[index] = this.bulkResult(index, StatusEnum.CONFLICT, "DNI ya registrado");
+      } else {
+        insertIndexes.add(index);
+        toInsert.add(customer);
+      }
+    }
+
+    try {
+      this.customerRepository.saveAll(toInsert);
+    } catch (DataIntegrityViolationException e) {
+      // Otra peticion registro alguno de los datos despues de la consulta: se reintenta uno por uno
+      this.insertOneByOne(insertIndexes, toInsert, results);
+      return;
+    }
+    for (int i = 0; i < toInsert.size(); i++) {
+      results[insertIndexes.get(i)] = this.createdResult(insertIndexes.get(i), toInsert.get(i));
+    }
+  }
+
+  private void insertOneByOne(List<Integer> indexes, List<Customer> customers,
+      CustomerBulkResult[] results) {
+    for (int i = 0; i < customers.size(); i++) {
+      Customer customer = customers.get(i);
+      int index = indexes.get(i);
+      customer.setId(null);
+      customer.setVersion(null);
+      try {
+        this.customerRepository.saveAndFlush(customer);
+        results[index] = this.createdResult(index, customer);
+      } catch (DataIntegrityViolationException e) {
+        if (CustomerConstraints.isEmailViolation(e)) {
+          results[index] = this.bulkResult(index, StatusEnum.CONFLICT, "Email ya registrado");
+        } else if (CustomerConstraints.isDniViolation(e)) {
+          results[index] = this.bulkResult(index, StatusEnum.CONFLICT, "DNI ya registrado");
+        } else {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private CustomerBulkResult createdResult(int index, Customer customer) {
+    CustomerBulkResult result = this.bulkResult(index, StatusEnum.CREATED, null);
+    result.setId(customer.getId());
+    this.readYourWrites.recordWrite(customer.getId());
+    this.customerKeyFilter.add(customer.getEmail(), customer.getDni());
+    return result;
+  }
+
+  private CustomerBulkResult bulkResult(int index, StatusEnum status, String message) {
+    CustomerBulkResult result = new CustomerBulkResult();
+    result.setIndex(index);
+    result.setStatus(status);
+    result.setMessage(message);
+    return result;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CustomerPage getCustomers(int limit, int offset, String after) {
+    limit = (0 >= limit) ? 20 : limit;
+    Slice<CustomerView> customers;
+    if (after != null && !after.isBlank()) {
+      customers = this.customerRepository.findViewsAfterOrderById(
+          CustomerCursor.decode(after), PageRequest.of(0, limit));
+    } else {
+      customers = this.customerRepository.findViewsOrderById(
+          new OffsetPageRequest(Math.max(offset, 0), limit));
+    }
+    List<CustomerResponse> responses = customers.stream()
+        .map(this.customerMapper::getCustomerResponseFromView).toList();
+    String nextCursor = customers.hasNext() ? CustomerCursor.encode(
+        customers.getContent().get(customers.getNumberOfElements() - 1).id()) : null;
+    return new CustomerPage(responses, nextCursor, this.approximateCustomerCount.get());
+  }
+
+  /**
+   * Cursor siguiente y total aproximado de una pagina sin cargar sus clientes: solo se leen del
+   * indice los ids en la posicion del ultimo elemento y del siguiente.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CustomerPage getCustomerPageInfo(int limit, int offset, String after) {
+    limit = (0 >= limit) ? 20 : limit;
+    List<UUID> boundary;
+    if (after != null && !after.isBlank()) {
+      boundary = this.customerRepository.findIdsAfterOrderById(CustomerCursor.decode(after),
+          new OffsetPageRequest(limit - 1, 2));
+    } else {
+      boundary = this.customerRepository.findIdsOrderById(
+          new OffsetPageRequest(Math.max(offset, 0) + limit - 1, 2));
+    }
+    String nextCursor = boundary.size() == 2 ? CustomerCursor.encode(boundary.get(0)) : null;
+    return new CustomerPage(List.of(), nextCursor, this.approximateCustomerCount.get());
+  }
+
+  /**
+   * Escribe la pagina como un arreglo JSON a medida que la consulta entrega los clientes, sin
+   * armar la lista completa en memoria.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void writeCustomers(int limit, int offset, String after, OutputStream outputStream) {
+    limit = (0 >= limit) ? 20 : limit;
+    ObjectWriter writer = this.objectMapper.writerFor(CustomerResponse.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (Stream<CustomerView> customers = (after != null && !after.isBlank())
+        ? this.customerRepository.streamViewsAfterOrderById(
+            CustomerCursor.decode(after), PageRequest.of(0, limit))
+        : this.customerRepository.streamViewsOrderById(
+            new OffsetPageRequest(Math.max(offset, 0), limit));
+        JsonGenerator generator = writer.createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.writeStartArray();
+      Iterator<CustomerView> iterator = customers.iterator();
+      while (iterator.hasNext()) {
+        writer.writeValue(generator,
+            this.customerMapper.getCustomerResponseFromView(iterator.next()));
+      }
+      generator.writeEndArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Consulta cada columna por separado, con a lo mas offset + limit + 1 filas por columna, y une
+   * los resultados en orden de relevancia: un cliente encontrado por apellido no se repite mas
+   * abajo por nombre o email. Asi cada consulta es un recorrido acotado de un indice.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public Slice<CustomerResponse> searchCustomers(String query, int limit, int offset) {
+    String term = SearchText.normalize(query == null ? "" : query.trim());
+    if (term.isEmpty()) {
+      throw new BadPetitionException("Debe indicar el texto a buscar");
+    }
+    if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+      throw new BadPetitionException(
+          "El texto a buscar admite como maximo " + MAX_SEARCH_QUERY_LENGTH + " caracteres");
+    }
+    if (limit > MAX_SEARCH_LIMIT || offset > MAX_SEARCH_OFFSET) {
+      throw new BadPetitionException("La busqueda admite limit hasta " + MAX_SEARCH_LIMIT
+          + " y offset hasta " + MAX_SEARCH_OFFSET);
+    }
+    limit = (0 >= limit) ? 20 : limit;
+    offset = Math.max(offset, 0);
+    Pageable candidates = PageRequest.of(0, Math.addExact(Math.addExact(offset, limit), 1));
+
+    List<List<Customer>> ranked = new ArrayList<>();
+    if (term.chars().allMatch(Character::isDigit)) {
+      ranked.add(this.customerRepository.findByDniStartingWithOrderByDniAscIdAsc(term,
+          candidates));
+    } else if (term.indexOf('@') >= 0) {
+      ranked.add(this.customerRepository.findByEmailNormStartingWithOrderByEmailNormAscIdAsc(
+          term, candidates));
+    } else {
+      ranked.add(this.customerRepository.findByApellidoNormStartingWithOrderByApellidoNormAscIdAsc(
+          term, candidates));
+      ranked.add(this.customerRepository.findByNombreNormStartingWithOrderByNombreNormAscIdAsc(
+          term, candidates));
+      ranked.add(this.customerRepository.findByEmailNormStartingWithOrderByEmailNormAscIdAsc(
+          term, candidates));
+    }
+
+    Map<UUID, Customer> merged = new LinkedHashMap<>();
+    ranked.forEach(customers -> customers.forEach(
+        customer -> merged.putIfAbsent(customer.getId(), customer)));
+    List<CustomerResponse> responses = merged.values().stream()
+        .skip(offset)
+        .limit(limit)
+        .map(this.customerMapper::getCustomerResponseFromCustomer)
+        .toList();
+    return new SliceImpl<>(responses, new OffsetPageRequest(offset, limit),
+        merged.size() > offset + limit);
+  }
+
+  @Override
+  @Cacheable(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
+  public CustomerResponse getCustomerDetails(UUID id) {
+    // Sin transaccion: el cargador abre la de lectura solo para la consulta que se comparte
+    CustomerView customer = this.customerDetailsLoader.load(id)
+        .orElseThrow(() -> new NotFoundException("Cliente no encontrado"));
+    return this.customerMapper.getCustomerResponseFromView(customer);
+  }
+
+  /**
+   * Toma de la cache de clientes los que ya esten y busca el resto con consultas IN de a lo mas
+   * {@code customer.batch-get.chunk-size} ids. Los encontrados quedan en la cache igual que con
+   * el detalle.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CustomerBatchGetResponse getCustomersByIds(List<UUID> ids) {
+    if (ids != null && ids.size() > MAX_BATCH_GET_IDS) {
+      throw new BadPetitionException(
+          "Se pueden buscar como maximo " + MAX_BATCH_GET_IDS + " ids por peticion");
+    }
+    Set<UUID> requested = ids == null ? new LinkedHashSet<>() : new LinkedHashSet<>(ids);
+    requested.remove(null);
+    if (requested.isEmpty()) {
+      throw new BadPetitionException("Debe indicar los ids a buscar");
+    }
+    Map<UUID, CustomerResponse> found = new HashMap<>();
+    List<UUID> pending = new ArrayList<>();
+    for (UUID id : requested) {
+      CustomerResponse cached = this.cachedCustomer(id);
+      if (cached != null) {
+        found.put(id, cached);
+      } else {
+        pending.add(id);
+      }
+    }
+    // Todos los bloques usan la conexion de la transaccion, que se elige con la primera consulta:
+    // si algun id se escribio hace poco, todos se leen de la base principal
+    Cache customers = this.cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE);
+    List<CustomerView> views = this.readYourWrites.read(pending,
+        () -> this.findViewsInChunks(pending));
+    for (CustomerView view : views) {
+      CustomerResponse customer = this.customerMapper.getCustomerResponseFromView(view);
+      found.put(view.id(), customer);
+      if (customers != null) {
+        customers.put(view.id(), customer);
+      }
+    }
+
+    CustomerBatchGetResponse response = new CustomerBatchGetResponse();
+    for (UUID id : requested) {
+      CustomerResponse customer = found.get(id);
+      if (customer != null) {
+        response.addCustomersItem(customer);
+      } else {
+        response.addMissingItem(id);
+      }
+    }
+    return response;
+  }
+
+  private List<CustomerView> findViewsInChunks(List<UUID> ids) {
+    int chunkSize = Math.max(this.batchGetChunkSize, 1);
+    List<CustomerView> views = new ArrayList<>(ids.size());
+    for (int start = 0; start < ids.size(); start += chunkSize) {
+      views.addAll(this.customerRepository.findViewsByIdIn(
+          ids.subList(start, Math.min(start + chunkSize, ids.size()))));
+    }
+    return views;
+  }
+
+  /**
+   * Version del cliente sin cargarlo: se toma del cliente cacheado si existe y, si no, se consulta
+   * solo la columna version.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public Long getCustomerVersion(UUID id) {
+    CustomerResponse cached = this.cachedCustomer(id);
+    if (cached != null && cached.getVersion() != null) {
+      return cached.getVersion();
+    }
+    return this.readYourWrites.read(id, () -> this.customerRepository.findVersionById(id))
+        .orElseThrow(() -> new NotFoundException("Cliente no encontrado"));
+  }
+
+  @Override
+  @CachePut(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
+  public CustomerResponse updateCustomer(UUID id, CustomerRequest customerRequest,
+      Long expectedVersion) {
+    this.customerValidator.requireValid(this.customerValidator.validateChanges(customerRequest));
+    Customer customerToUpdate = this.readYourWrites.onPrimary(
+            () -> this.customerRepository.findById(id))
+        .orElseThrow(() -> new NotFoundException("Not found"));
+    if (expectedVersion != null && !expectedVersion.equals(customerToUpdate.getVersion())) {
+      throw new PreconditionFailedException(MODIFIED_MESSAGE);
+    }
+
+    if (customerRequest.getEmail() != null && !customerToUpdate.getEmail()
+        .equals(customerRequest.getEmail())) {
+      customerToUpdate.setEmail(customerRequest.getEmail());
+    }
+    if (customerRequest.getDni() != null && !customerToUpdate.getDni()
+        .equals(customerRequest.getDni())) {
+      customerToUpdate.setDni(customerRequest.getDni());
+    }
+    if (customerRequest.getNombre() != null && !customerToUpdate.getNombre()
+        .equals(customerRequest.getNombre())) {
+      customerToUpdate.setNombre(customerRequest.getNombre());
+    }
+    if (customerRequest.getApellido() != null && !customerToUpdate.getApellido()
+        .equals(customerRequest.getApellido())) {
+      customerToUpdate.setApellido(customerRequest.getApellido());
+    }
+
+    Customer updatedCustomer;
+    try {
+      updatedCustomer = this.customerRepository.saveAndFlush(customerToUpdate);
+    } catch (DataIntegrityViolationException e) {
+      if (CustomerConstraints.isEmailViolation(e)) {
+        throw new BadPetitionException("Email ya registrado en otro usuario");
+      }
+      if (CustomerConstraints.isDniViolation(e)) {
+        throw new BadPetitionException("DNI ya registrado en otro usuario");
+      }
+      throw e;
+    } catch (OptimisticLockingFailureException e) {
+      // Otra peticion actualizo el cliente entre la lectura y la escritura
+      throw expectedVersion != null
+          ? new PreconditionFailedException(MODIFIED_MESSAGE)
+          : new ConflictException(MODIFIED_MESSAGE);
+    }
+    this.readYourWrites.recordWrite(id);
+    this.customerKeyFilter.add(updatedCustomer.getEmail(), updatedCustomer.getDni());
+    return this.customerMapper.getCustomerResponseFromCustomer(updatedCustomer);
+  }
+
+  /**
+   * Actualiza solo los campos enviados con un UPDATE condicionado por la version, sin cargar el
+   * cliente antes. Los indices unicos validan solo el email o DNI que cambian. Si el cliente con la
+   * version esperada esta en la cache, la respuesta se arma desde ahi y no se vuelve a leer.
+   */
+  @Override
+  @Transactional
+  @CachePut(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
+  public CustomerResponse patchCustomer(UUID id, CustomerPatchRequest patchRequest,
+      Long expectedVersion) {
+    this.customerValidator.requireValid(this.customerValidator.validateChanges(patchRequest));
+    CustomerResponse cached = expectedVersion == null ? null : this.cachedCustomer(id);
+
+    int updated;
+    try {
+      updated = this.customerRepository.updateChangedColumns(id, patchRequest, expectedVersion);
+    } catch (DataIntegrityViolationException e) {
+      if (CustomerConstraints.isEmailViolation(e)) {
+        throw new ConflictException("Email ya registrado en otro usuario");
+      }
+      if (CustomerConstraints.isDniViolation(e)) {
+        throw new ConflictException("DNI ya registrado en otro usuario");
+      }
+      throw e;
+    }
+    if (updated == 0) {
+      if (this.customerRepository.findVersionById(id).isEmpty()) {
+        throw new NotFoundException("Cliente no encontrado");
+      }
+      throw new PreconditionFailedException(MODIFIED_MESSAGE);
+    }
+    this.readYourWrites.recordWrite(id);
+    this.customerKeyFilter.add(patchRequest.getEmail(), patchRequest.getDni());
+
+    if (cached != null && expectedVersion.equals(cached.getVersion())) {
+      return this.customerMapper.applyPatch(cached, patchRequest);
+    }
+    return this.customerMapper.getCustomerResponseFromCustomer(this.customerRepository.findById(id)
+        .orElseThrow(() -> new NotFoundException("Cliente no encontrado")));
+  }
+
+  @Override
+  @CacheEvict(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#id")
+  public ModelApiResponse deleteCustomer(UUID id) {
+
+    boolean exists = this.readYourWrites.onPrimary(() -> this.customerRepository.existsById(id));
+    if (!exists) {
+      throw new NotFoundException("Cliente no existe o ya se encuentra eliminado");
+    }
+
+    List<AccountResponse> accounts = this.accountClient.getAccountsByClientId(id);
+    if (this.findIfUserHaveActiveAccounts(accounts)) {
+      throw new BadPetitionException(ACTIVE_ACCOUNTS_MESSAGE);
+    }
+    if (!accounts.isEmpty() && !this.accountClient.deleteAccountsByClientId(id)) {
+      this.sendOrderToDeleteAccounts(accounts);
+    }
+    this.customerRepository.deleteById(id);
+    ModelApiResponse response = new ModelApiResponse();
+    response.setMessage("Cliente borrado exitosamente");
+    return response;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportCustomers(OutputStream outputStream) {
+    ObjectWriter writer = this.objectMapper.writerFor(CustomerResponse.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (Stream<Customer> customers = this.customerRepository.streamAll();
+        JsonGenerator generator = writer.createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+      Iterator<Customer> iterator = customers.iterator();
+      while (iterator.hasNext()) {
+        Customer customer = iterator.next();
+        writer.writeValue(generator, this.customerMapper.getCustomerResponseFromCustomer(customer));
+        generator.writeRaw('\n');
+        this.entityManager.detach(customer);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean findIfUserHaveActiveAccounts(List<AccountResponse> accounts) {
+    return accounts.stream().anyMatch(account -> account.getSaldo() != 0.0);
+  }
+
+  private CustomerResponse cachedCustomer(UUID id) {
+    Cache customers = this.cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE);
+    return customers == null ? null : customers.get(id, CustomerResponse.class);
+  }
+
+  /**
+   * Las eliminaciones comparten un mismo plazo de {@code account.client.delete-timeout}, que
+   * empieza a contar antes de encolarlas. Las que el pool rechaza por estar lleno se reportan como
+   * fallidas; al vencer el plazo se cancelan todas las que no terminaron, tambien las que siguen en
+   * cola sin haber empezado.
+   */
+  private void sendOrderToDeleteAccounts(List<AccountResponse> accounts) {
+    long deadline = System.nanoTime() + this.accountDeleteTimeout.toNanos();
+    Map<UUID, Future<?>> deletions = new LinkedHashMap<>();
+    for (AccountResponse account : accounts) {
+      try {
+        deletions.put(account.getId(), this.accountExecutor.submit(
+            () -> this.accountClient.DeleteAccount(account.getId())));
+      } catch (TaskRejectedException e) {
+        deletions.put(account.getId(), null);
+      }
+    }
+    List<UUID> failedAccounts = new ArrayList<>();
+    try {
+      deletions.forEach((accountId, deletion) -> {
+        if (deletion == null || !awaitDeletion(deletion, deadline)) {
+          failedAccounts.add(accountId);
+        }
+      });
+    } finally {
+      deletions.values().stream()
+          .filter(deletion -> deletion != null && !deletion.isDone())
+          .forEach(deletion -> deletion.cancel(true));
+    }
+    if (!failedAccounts.isEmpty()) {
+      throw new AccountDeletionException(failedAccounts);
+    }
+  }
+
+  private static boolean awaitDeletion(Future<?> deletion, long deadline) {
+    try {
+      deletion.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return true;
+    } catch (ExecutionException | TimeoutException | CancellationException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,220 @@
+package com.danny.customerms.clients;
+
+import com.danny.customerms.config.AccountExecutorConfig;
+import com.danny.customerms.exception.BadPetitionException;
+import com.danny.customerms.exception.ServiceUnavailableException;
+import com.danny.customerms.model.AccountResponse;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+
+@Configuration
+public class AccountClient {
+
+  public static final String REQUESTS_METRIC = "account.client.requests";
+
+  @Autowired
+  private FeignAccountClient feignAccountClient;
+  @Autowired
+  private CircuitBreaker accountCircuitBreaker;
+  @Autowired
+  private Bulkhead accountBulkhead;
+  @Autowired
+  @Qualifier(AccountExecutorConfig.ACCOUNT_EXECUTOR)
+  private Executor accountExecutor;
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Value("${account.client.bulk-delete-enabled:true}")
+  private boolean bulkDeleteEnabled;
+
+  @Value("${account.client.bulk-delete-retry-after:PT5M}")
+  private Duration bulkDeleteRetryAfter;
+
+  @Value("${account.client.hedging.enabled:false}")
+  private boolean hedgingEnabled;
+
+  @Value("${account.client.hedging.percentile:0.95}")
+  private double hedgingPercentile;
+
+  @Value("${account.client.hedging.min-delay:PT0.05S}")
+  private Duration hedgingMinDelay;
+
+  private volatile long bulkDeleteRetryAt;
+  private final LatencyWindow lookupLatencies = new LatencyWindow(256);
+
+  public List<AccountResponse> getAccountsByClientId(UUID id) {
+    return this.protect("getAccountsByClientId", () -> this.hedgingEnabled
+        ? this.fetchHedged(id)
+        : this.timedFetchAccountsByClientId(id));
+  }
+
+  public void DeleteAccount(UUID id) {
+    this.protect("deleteAccount", () -> {
+      this.deleteAccount(id);
+      return null;
+    });
+  }
+
+  /**
+   * Elimina todas las cuentas del cliente con una sola peticion. Devuelve false si ACCOUNTMS no
+   * ofrece la operacion; en ese caso se deben eliminar una por una y no se vuelve a intentar hasta
+   * pasado {@code account.client.bulk-delete-retry-after}.
+   */
+  public boolean deleteAccountsByClientId(UUID clientId) {
+    if (!this.bulkDeleteEnabled || System.currentTimeMillis() < this.bulkDeleteRetryAt) {
+      return false;
+    }
+    return this.protect("deleteAccountsByClientId", () -> this.deleteAllAccounts(clientId));
+  }
+
+  /**
+   * Con el circuito abierto se falla de inmediato, sin esperar el timeout de ACCOUNTMS; con el
+   * bulkhead lleno se espera como maximo {@code account.client.bulkhead.max-wait} por un cupo.
+   * Cada llamada se mide en {@value #REQUESTS_METRIC} por operacion y resultado.
+   */
+  private <T> T protect(String operation, Supplier<T> call) {
+    Timer.Sample sample = Timer.start(this.meterRegistry);
+    String outcome = "ERROR";
+    try {
+      T result = CircuitBreaker.decorateSupplier(this.accountCircuitBreaker,
+          Bulkhead.decorateSupplier(this.accountBulkhead, call)).get();
+      outcome = "SUCCESS";
+      return result;
+    } catch (BadPetitionException e) {
+      outcome = "CLIENT_ERROR";
+      throw e;
+    } catch (CallNotPermittedException e) {
+      outcome = "REJECTED";
+      throw new ServiceUnavailableException(
+          "Servicio de cuentas no disponible, intente nuevamente en unos segundos");
+    } catch (BulkheadFullException e) {
+      outcome = "REJECTED";
+      throw new ServiceUnavailableException(
+          "Servicio de cuentas saturado, intente nuevamente en unos segundos");
+    } finally {
+      sample.stop(Timer.builder(REQUESTS_METRIC)
+          .description("Llamadas a ACCOUNTMS")
+          .tag("operation", operation)
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(this.meterRegistry));
+    }
+  }
+
+  /**
+   * Si la consulta no responde dentro del percentil configurado de las latencias recientes se
+   * envia una segunda, que el balanceador dirige a la instancia de menor costo, y se usa la
+   * primera respuesta exitosa. Solo aplica a la consulta, que es idempotente. Con el pool lleno
+   * no se duplica la consulta: se hace en el hilo de la peticion o se espera solo la primera.
+   */
+  private List<AccountResponse> fetchHedged(UUID id) {
+    CompletableFuture<List<AccountResponse>> primary;
+    try {
+      primary = CompletableFuture.supplyAsync(
+          () -> this.timedFetchAccountsByClientId(id), this.accountExecutor);
+    } catch (RejectedExecutionException e) {
+      return this.timedFetchAccountsByClientId(id);
+    }
+    long delay = Math.max(this.hedgingMinDelay.toNanos(),
+        this.lookupLatencies.percentile(this.hedgingPercentile));
+    try {
+      return primary.get(delay, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      CompletableFuture<List<AccountResponse>> hedge;
+      try {
+        hedge = CompletableFuture.supplyAsync(
+            () -> this.timedFetchAccountsByClientId(id), this.accountExecutor);
+      } catch (RejectedExecutionException rejected) {
+        hedge = primary;
+      }
+      CompletableFuture<List<AccountResponse>> first = new CompletableFuture<>();
+      primary.thenAccept(first::complete);
+      hedge.thenAccept(first::complete);
+      CompletableFuture.allOf(primary, hedge).whenComplete((ignored, error) -> {
+        if (error != null) {
+          first.completeExceptionally(error);
+        }
+      });
+      try {
+        return first.join();
+      } catch (CompletionException error) {
+        throw unwrap(error);
+      }
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Consulta de cuentas interrumpida");
+    }
+  }
+
+  private List<AccountResponse> timedFetchAccountsByClientId(UUID id) {
+    long start = System.nanoTime();
+    List<AccountResponse> accounts = this.fetchAccountsByClientId(id);
+    this.lookupLatencies.record(System.nanoTime() - start);
+    return accounts;
+  }
+
+  private static RuntimeException unwrap(Throwable error) {
+    Throwable cause = error;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause instanceof RuntimeException runtime
+        ? runtime
+        : new RuntimeException("Error inesperado: " + cause.getMessage());
+  }
+
+  private List<AccountResponse> fetchAccountsByClientId(UUID id) {
+    try {
+      return this.feignAccountClient.getAccountsByClientId(id);
+    } catch (HttpClientErrorException e) {
+      throw new BadPetitionException("Error cuentas no encontradas");
+    } catch (Exception e) {
+      throw new RuntimeException("Error inesperado: " + e.getMessage());
+    }
+  }
+
+  private void deleteAccount(UUID id) {
+    try {
+      this.feignAccountClient.deleteAccount(id);
+    } catch (Exception e) {
+      throw new RuntimeException("Error inesperado: " + e.getMessage());
+    }
+  }
+
+  private boolean deleteAllAccounts(UUID clientId) {
+    try {
+      this.feignAccountClient.deleteAccountsByClientId(clientId);
+      return true;
+    } catch (FeignException.NotFound | FeignException.MethodNotAllowed
+        | FeignException.NotImplemented e) {
+      this.bulkDeleteRetryAt = System.currentTimeMillis() + this.bulkDeleteRetryAfter.toMillis();
+      return false;
+    } catch (Exception e) {
+      throw new RuntimeException("Error inesperado: " + e.getMessage());
+    }
+  }
+}
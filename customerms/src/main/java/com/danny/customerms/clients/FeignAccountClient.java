@@ -17,4 +17,7 @@ public interface FeignAccountClient {
 
   @DeleteMapping("/account/{id}")
   void deleteAccount(@PathVariable("id") UUID id);
+
+  @DeleteMapping("/account")
+  void deleteAccountsByClientId(@RequestParam("clienteId") UUID id);
 }
@@ -0,0 +1,139 @@
+package com.danny.customerms.clients;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra, por instancia, las peticiones en curso y un promedio movil exponencial de la latencia
+ * de las respuestas. El promedio decae mientras la instancia no recibe trafico para que una
+ * instancia que fue lenta vuelva a probarse.
+ */
+@Component
+public class InstanceLatencyTracker
+    implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+  private final Map<String, InstanceStats> statsByInstance = new ConcurrentHashMap<>();
+
+  @Value("${account.client.load-balancer.ewma-weight:0.3}")
+  private double ewmaWeight;
+
+  @Value("${account.client.load-balancer.decay:PT10S}")
+  private Duration decay;
+
+  @Value("${account.client.load-balancer.failure-penalty:PT5S}")
+  private Duration failurePenalty;
+
+  @Override
+  public boolean supports(Class requestContextClass, Class responseClass,
+      Class serverTypeClass) {
+    return RequestDataContext.class.isAssignableFrom(requestContextClass)
+        && ResponseData.class.isAssignableFrom(responseClass)
+        && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+  }
+
+  @Override
+  public void onStart(Request<RequestDataContext> request) {
+  }
+
+  @Override
+  public void onStartRequest(Request<RequestDataContext> request,
+      Response<ServiceInstance> lbResponse) {
+    if (!lbResponse.hasServer()) {
+      return;
+    }
+    request.getContext().setRequestStartTime(System.nanoTime());
+    this.statsFor(lbResponse.getServer()).outstanding.incrementAndGet();
+  }
+
+  @Override
+  public void onComplete(
+      CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+    Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+    if (lbResponse == null || !lbResponse.hasServer()) {
+      return;
+    }
+    long now = System.nanoTime();
+    InstanceStats stats = this.statsFor(lbResponse.getServer());
+    stats.outstanding.decrementAndGet();
+    if (completionContext.status() == CompletionContext.Status.DISCARD) {
+      return;
+    }
+    long latency = now - completionContext.getLoadBalancerRequest().getContext()
+        .getRequestStartTime();
+    if (completionContext.status() == CompletionContext.Status.FAILED) {
+      latency = Math.max(latency, this.failurePenalty.toNanos());
+    }
+    stats.record(latency, now, this.ewmaWeight, this.decay.toNanos());
+  }
+
+  /**
+   * Costo esperado de enviar una peticion a la instancia: latencia promedio por peticiones en
+   * curso. Una instancia sin mediciones solo pesa por sus peticiones en curso.
+   */
+  public double score(ServiceInstance instance) {
+    InstanceStats stats = this.statsByInstance.get(key(instance));
+    if (stats == null) {
+      return 1;
+    }
+    double latency = stats.latencyAt(System.nanoTime(), this.decay.toNanos());
+    return (latency + 1) * (stats.outstanding.get() + 1);
+  }
+
+  private InstanceStats statsFor(ServiceInstance instance) {
+    return this.statsByInstance.computeIfAbsent(key(instance), ignored -> new InstanceStats());
+  }
+
+  private static String key(ServiceInstance instance) {
+    return instance.getHost() + ":" + instance.getPort();
+  }
+
+  private static final class InstanceStats {
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    // ReentrantLock y no synchronized: esperar un monitor fija el hilo virtual a su portador
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean sampled;
+    private double latencyNanos;
+    private long lastSample;
+
+    void record(long latency, long now, double weight, long decayNanos) {
+      this.lock.lock();
+      try {
+        if (this.sampled) {
+          double current = this.latencyAt(now, decayNanos);
+          this.latencyNanos = current + weight * (latency - current);
+        } else {
+          this.latencyNanos = latency;
+          this.sampled = true;
+        }
+        this.lastSample = now;
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    double latencyAt(long now, long decayNanos) {
+      this.lock.lock();
+      try {
+        if (!this.sampled) {
+          return 0;
+        }
+        return this.latencyNanos * Math.exp(-(double) (now - this.lastSample) / decayNanos);
+      } finally {
+        this.lock.unlock();
+      }
+    }
+  }
+}
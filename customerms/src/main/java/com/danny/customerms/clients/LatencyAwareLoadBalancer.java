@@ -0,0 +1,58 @@
+package com.danny.customerms.clients;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Elige entre dos instancias al azar la de menor costo segun {@link InstanceLatencyTracker}
+ * (power of two choices), de modo que una instancia lenta deja de recibir la mayor parte del
+ * trafico sin que todas las peticiones se concentren en la mas rapida.
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+  private final ObjectProvider<ServiceInstanceListSupplier> instanceListSupplier;
+  private final InstanceLatencyTracker latencyTracker;
+
+  public LatencyAwareLoadBalancer(
+      ObjectProvider<ServiceInstanceListSupplier> instanceListSupplier,
+      InstanceLatencyTracker latencyTracker) {
+    this.instanceListSupplier = instanceListSupplier;
+    this.latencyTracker = latencyTracker;
+  }
+
+  @Override
+  public Mono<Response<ServiceInstance>> choose(Request request) {
+    ServiceInstanceListSupplier supplier = this.instanceListSupplier
+        .getIfAvailable(NoopServiceInstanceListSupplier::new);
+    return supplier.get(request).next().map(this::choose);
+  }
+
+  private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+    if (instances.isEmpty()) {
+      return new EmptyResponse();
+    }
+    if (instances.size() == 1) {
+      return new DefaultResponse(instances.get(0));
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(instances.size());
+    int second = random.nextInt(instances.size() - 1);
+    if (second >= first) {
+      second++;
+    }
+    ServiceInstance a = instances.get(first);
+    ServiceInstance b = instances.get(second);
+    return new DefaultResponse(
+        this.latencyTracker.score(a) <= this.latencyTracker.score(b) ? a : b);
+  }
+}
@@ -0,0 +1,25 @@
+package com.danny.customerms.clients;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuracion del contexto de balanceo de ACCOUNTMS. No lleva {@code @Configuration} para que el
+ * escaneo de componentes no la aplique a todos los clientes.
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+  @Bean
+  public ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(Environment environment,
+      LoadBalancerClientFactory loadBalancerClientFactory,
+      InstanceLatencyTracker latencyTracker) {
+    String name = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+    return new LatencyAwareLoadBalancer(
+        loadBalancerClientFactory.getLazyProvider(name, ServiceInstanceListSupplier.class),
+        latencyTracker);
+  }
+}
@@ -0,0 +1,50 @@
+package com.danny.customerms.clients;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ultimas latencias observadas, para calcular percentiles sobre una ventana fija. Usa un
+ * ReentrantLock y no synchronized: con hilos virtuales, esperar un monitor fija el hilo portador.
+ */
+final class LatencyWindow {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final long[] samples;
+  private int next;
+  private int size;
+
+  LatencyWindow(int capacity) {
+    this.samples = new long[capacity];
+  }
+
+  void record(long latencyNanos) {
+    this.lock.lock();
+    try {
+      this.samples[this.next] = latencyNanos;
+      this.next = (this.next + 1) % this.samples.length;
+      this.size = Math.min(this.size + 1, this.samples.length);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Percentil {@code quantile} (entre 0 y 1) de la ventana, o 0 si aun no hay mediciones.
+   */
+  long percentile(double quantile) {
+    long[] sorted;
+    this.lock.lock();
+    try {
+      sorted = Arrays.copyOf(this.samples, this.size);
+    } finally {
+      this.lock.unlock();
+    }
+    if (sorted.length == 0) {
+      return 0;
+    }
+    Arrays.sort(sorted);
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+  }
+}
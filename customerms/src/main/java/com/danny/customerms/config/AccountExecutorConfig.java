@@ -0,0 +1,45 @@
+package com.danny.customerms.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AccountExecutorConfig {
+
+  public static final String ACCOUNT_EXECUTOR = "accountExecutor";
+
+  /**
+   * Hilos para las llamadas a ACCOUNTMS, con a lo mas {@code account.client.max-concurrency}
+   * llamadas a la vez. Con hilos de plataforma, si la cola se llena la tarea se rechaza con
+   * {@code TaskRejectedException} y quien la envia decide como reportarla; con hilos virtuales se
+   * crea un hilo por llamada y el limite espera a que se libere un cupo. Los hilos virtuales se
+   * usan solo si {@code spring.threads.virtual.enabled=true} y la JVM es Java 21 o superior, igual
+   * que en Tomcat.
+   */
+  @Bean(name = ACCOUNT_EXECUTOR)
+  public AsyncTaskExecutor accountExecutor(
+      @Value("${account.client.max-concurrency:8}") int maxConcurrency,
+      @Value("${account.client.queue-capacity:256}") int queueCapacity,
+      Environment environment) {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("account-");
+      executor.setVirtualThreads(true);
+      executor.setConcurrencyLimit(maxConcurrency);
+      return executor;
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxConcurrency);
+    executor.setMaxPoolSize(maxConcurrency);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("account-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+    return executor;
+  }
+}
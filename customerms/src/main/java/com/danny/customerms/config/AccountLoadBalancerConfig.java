@@ -0,0 +1,16 @@
+package com.danny.customerms.config;
+
+import com.danny.customerms.clients.LatencyAwareLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reemplaza el round robin por defecto para ACCOUNTMS por un balanceo segun la latencia observada
+ * de cada instancia.
+ */
+@Configuration
+@LoadBalancerClient(name = AccountResilienceConfig.ACCOUNTMS,
+    configuration = LatencyAwareLoadBalancerConfiguration.class)
+public class AccountLoadBalancerConfig {
+
+}
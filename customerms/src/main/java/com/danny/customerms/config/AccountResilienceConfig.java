@@ -0,0 +1,63 @@
+package com.danny.customerms.config;
+
+import com.danny.customerms.exception.BadPetitionException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Circuit breaker y bulkhead para ACCOUNTMS. El estado de ambos se publica como metricas
+ * resilience4j.circuitbreaker.* y resilience4j.bulkhead.*. El bulkhead cubre tanto las consultas
+ * de los hilos de peticion como las eliminaciones del pool de cuentas: debe admitir al menos
+ * {@code account.client.max-concurrency} llamadas mas las consultas concurrentes esperadas, y quien
+ * no entra espera hasta {@code max-wait} antes de recibir un 503.
+ */
+@Configuration
+public class AccountResilienceConfig {
+
+  public static final String ACCOUNTMS = "ACCOUNTMS";
+
+  @Bean
+  public CircuitBreaker accountCircuitBreaker(MeterRegistry meterRegistry,
+      @Value("${account.client.circuit-breaker.failure-rate-threshold:50}") float failureRate,
+      @Value("${account.client.circuit-breaker.slow-call-duration:PT2S}") Duration slowCall,
+      @Value("${account.client.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+      @Value("${account.client.circuit-breaker.wait-in-open-state:PT30S}") Duration waitInOpen) {
+    CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+        .failureRateThreshold(failureRate)
+        .slowCallRateThreshold(failureRate)
+        .slowCallDurationThreshold(slowCall)
+        .slidingWindowSize(slidingWindowSize)
+        .minimumNumberOfCalls(slidingWindowSize)
+        .waitDurationInOpenState(waitInOpen)
+        .ignoreExceptions(BadPetitionException.class, BulkheadFullException.class)
+        .build();
+    CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    return registry.circuitBreaker(ACCOUNTMS);
+  }
+
+  @Bean
+  public Bulkhead accountBulkhead(MeterRegistry meterRegistry,
+      @Value("${account.client.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+      @Value("${account.client.bulkhead.max-wait:PT1S}") Duration maxWait) {
+    BulkheadConfig config = BulkheadConfig.custom()
+        .maxConcurrentCalls(maxConcurrentCalls)
+        .maxWaitDuration(maxWait)
+        .build();
+    BulkheadRegistry registry = BulkheadRegistry.of(config);
+    TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+    return registry.bulkhead(ACCOUNTMS);
+  }
+}
@@ -0,0 +1,96 @@
+package com.danny.customerms.config;
+
+import com.danny.customerms.exception.AccountDeletionException;
+import com.danny.customerms.exception.BadPetitionException;
+import com.danny.customerms.exception.ConflictException;
+import com.danny.customerms.exception.NotFoundException;
+import com.danny.customerms.exception.PreconditionFailedException;
+import com.danny.customerms.exception.ServiceUnavailableException;
+import com.danny.customerms.exception.UnAuthorizedException;
+import com.danny.customerms.model.Error;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ExceptionTranslator {
+
+  public static final String ERRORS_METRIC = "customer.errors";
+
+  private final MeterRegistry meterRegistry;
+
+  public ExceptionTranslator(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @ExceptionHandler({BadPetitionException.class})
+  public ResponseEntity<Error> badPetitionException(final BadPetitionException e) {
+    Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
+    return this.formErrorResponse(e, e.getStatusCode(), generatedError);
+  }
+
+  @ExceptionHandler({NotFoundException.class})
+  public ResponseEntity<Error> userNotFoundException(final NotFoundException e) {
+    Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
+    return this.formErrorResponse(e, e.getStatusCode(), generatedError);
+  }
+
+  @ExceptionHandler({UnAuthorizedException.class})
+  public ResponseEntity<Error> unauthorizedException(final UnAuthorizedException e) {
+    Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
+    return this.formErrorResponse(e, e.getStatusCode(), generatedError);
+  }
+
+  @ExceptionHandler({ConflictException.class})
+  public ResponseEntity<Error> unprocessableException(final ConflictException e) {
+    Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
+    return this.formErrorResponse(e, e.getStatusCode(), generatedError);
+  }
+
+  @ExceptionHandler({AccountDeletionException.class})
+  public ResponseEntity<Error> accountDeletionException(final AccountDeletionException e) {
+    Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
+    return this.formErrorResponse(e, e.getStatusCode(), generatedError);
+  }
+
+  @ExceptionHandler({PreconditionFailedException.class})
+  public ResponseEntity<Error> preconditionFailedException(final PreconditionFailedException e) {
+    Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
+    return this.formErrorResponse(e, e.getStatusCode(), generatedError);
+  }
+
+  @ExceptionHandler({ServiceUnavailableException.class})
+  public ResponseEntity<Error> serviceUnavailableException(final ServiceUnavailableException e) {
+    Error generatedError = this.createErrorModel(e.getMessage(), e.getStatusCode());
+    return this.formErrorResponse(e, e.getStatusCode(), generatedError);
+  }
+
+  @ExceptionHandler({DataIntegrityViolationException.class})
+  public ResponseEntity<Error> dataIntegrityViolationException(
+      final DataIntegrityViolationException e) {
+    Error generatedError = this.createErrorModel("Los datos entran en conflicto con otro registro",
+        HttpStatus.CONFLICT.value());
+    return this.formErrorResponse(e, HttpStatus.CONFLICT.value(), generatedError);
+  }
+
+  private Error createErrorModel(String message, Integer code) {
+    Error error = new Error();
+    error.setCode(code);
+    error.setMessage(message);
+    return error;
+  }
+
+  private ResponseEntity<Error> formErrorResponse(Exception e, int code, Error error) {
+    Counter.builder(ERRORS_METRIC)
+        .description("Errores respondidos por tipo de excepcion")
+        .tag("type", e.getClass().getSimpleName())
+        .tag("status", String.valueOf(code))
+        .register(this.meterRegistry)
+        .increment();
+    return ResponseEntity.status(code).body(error);
+  }
+}
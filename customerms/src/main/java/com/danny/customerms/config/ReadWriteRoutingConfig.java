@@ -0,0 +1,69 @@
+package com.danny.customerms.config;
+
+import com.danny.customerms.datasource.ReadWriteRoutingDataSource;
+import com.danny.customerms.datasource.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Con {@code customer.datasource.routing.enabled=true} las transacciones de solo lectura usan las
+ * replicas de {@code customer.datasource.replicas} y el resto {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "customer.datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+  @Bean
+  @ConfigurationProperties("customer.datasource")
+  public ReplicaProperties replicaProperties() {
+    return new ReplicaProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+      HikariDataSource primaryDataSource, ReplicaProperties replicaProperties,
+      MeterRegistry meterRegistry) {
+    List<DataSource> replicas = new ArrayList<>();
+    for (ReplicaProperties.Replica replica : replicaProperties.getReplicas()) {
+      HikariDataSource dataSource = new HikariDataSource();
+      dataSource.setPoolName("replica-" + replicas.size());
+      dataSource.setJdbcUrl(replica.getUrl());
+      dataSource.setUsername(replica.getUsername());
+      dataSource.setPassword(replica.getPassword());
+      dataSource.setMaximumPoolSize(replicaProperties.getReplicaMaximumPoolSize());
+      dataSource.setConnectionTimeout(
+          replicaProperties.getReplicaConnectionTimeout().toMillis());
+      dataSource.setReadOnly(true);
+      dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+      replicas.add(dataSource);
+    }
+    return new ReadWriteRoutingDataSource(primaryDataSource, replicas,
+        replicaProperties.getReplicaRetryAfter());
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+  }
+}
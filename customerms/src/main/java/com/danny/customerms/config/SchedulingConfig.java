@@ -0,0 +1,13 @@
+package com.danny.customerms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Tareas periodicas del servicio, como la reconstruccion de los filtros de emails y DNIs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,43 @@
+package com.danny.customerms.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Solo activo con {@code spring.threads.virtual.enabled=true} en Java 21 o superior. Cuenta por JFR
+ * los hilos virtuales que quedan fijados a su hilo portador, tipicamente dentro de bloques
+ * synchronized del driver JDBC o del cliente HTTP, y los registra en el log. No evita que se fijen:
+ * solo los hace visibles en {@code jvm.threads.virtual.pinned}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  @Bean(destroyMethod = "close")
+  public RecordingStream pinnedVirtualThreadsMonitor(MeterRegistry meterRegistry,
+      @Value("${virtual-threads.pinned-threshold:PT0.02S}") Duration threshold) {
+    Counter pinned = Counter.builder("jvm.threads.virtual.pinned")
+        .description("Hilos virtuales fijados a su hilo portador mas tiempo que el umbral")
+        .register(meterRegistry);
+    RecordingStream stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, event -> {
+      pinned.increment();
+      log.warn("Hilo virtual fijado durante {} ms: {}", event.getDuration().toMillis(),
+          event.getStackTrace());
+    });
+    stream.startAsync();
+    return stream;
+  }
+}
@@ -0,0 +1,118 @@
+package com.danny.customerms.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Entrega conexiones de una replica dentro de las transacciones {@code readOnly} y de la base
+ * principal en cualquier otro caso. Las replicas se alternan en orden; una replica que no entrega
+ * conexion se descarta durante {@code retryAfter} y la lectura se atiende en la principal.
+ *
+ * <p>Debe usarse detras de un LazyConnectionDataSourceProxy: la conexion se elige al ejecutar la
+ * primera sentencia, cuando ya se conoce si la transaccion es de solo lectura.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource
+    implements DisposableBean {
+
+  static final String PRIMARY = "primary";
+  private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+  private final List<DataSource> replicaDataSources;
+  private final List<String> replicas;
+  private final Duration retryAfter;
+  private final Map<String, Long> unavailableUntil = new ConcurrentHashMap<>();
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas,
+      Duration retryAfter) {
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    IntStream.range(0, replicas.size()).forEach(i -> targets.put(replicaKey(i), replicas.get(i)));
+    this.replicaDataSources = List.copyOf(replicas);
+    this.replicas = IntStream.range(0, replicas.size())
+        .mapToObj(ReadWriteRoutingDataSource::replicaKey).toList();
+    this.retryAfter = retryAfter;
+    this.setTargetDataSources(targets);
+    this.setDefaultTargetDataSource(primary);
+    this.afterPropertiesSet();
+  }
+
+  static String replicaKey(int index) {
+    return "replica-" + index;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        || ReadYourWrites.isPrimaryRequired()) {
+      return PRIMARY;
+    }
+    long now = System.nanoTime();
+    for (int attempt = 0; attempt < this.replicas.size(); attempt++) {
+      String replica = this.replicas.get(
+          Math.floorMod(this.next.getAndIncrement(), this.replicas.size()));
+      Long until = this.unavailableUntil.get(replica);
+      if (until == null || now - until >= 0) {
+        return replica;
+      }
+    }
+    return PRIMARY;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Object key = this.determineCurrentLookupKey();
+    try {
+      return this.getResolvedDataSources().get(key).getConnection();
+    } catch (SQLException e) {
+      return this.failover(key, e).getConnection();
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    Object key = this.determineCurrentLookupKey();
+    try {
+      return this.getResolvedDataSources().get(key).getConnection(username, password);
+    } catch (SQLException e) {
+      return this.failover(key, e).getConnection(username, password);
+    }
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    for (DataSource replica : this.replicaDataSources) {
+      if (replica instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  boolean isAvailable(String replica) {
+    Long until = this.unavailableUntil.get(replica);
+    return until == null || System.nanoTime() - until >= 0;
+  }
+
+  private DataSource failover(Object key, SQLException cause) throws SQLException {
+    if (PRIMARY.equals(key)) {
+      throw cause;
+    }
+    log.warn("Replica {} no disponible durante {}, se lee de la base principal: {}", key,
+        this.retryAfter, cause.getMessage());
+    this.unavailableUntil.put((String) key, System.nanoTime() + this.retryAfter.toNanos());
+    return this.getResolvedDataSources().get(PRIMARY);
+  }
+}
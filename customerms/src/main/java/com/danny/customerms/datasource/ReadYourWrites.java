@@ -0,0 +1,68 @@
+package com.danny.customerms.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Envia a la base principal las lecturas que no pueden ver datos atrasados de una replica: las de
+ * un cliente escrito hace menos de {@code customer.datasource.read-your-writes} y las que preceden
+ * a una escritura. Las escrituras recientes se recuerdan solo en esta instancia del servicio.
+ */
+@Component
+public class ReadYourWrites {
+
+  private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+  private final Cache<UUID, Boolean> recentWrites;
+
+  public ReadYourWrites(@Value("${customer.datasource.read-your-writes:PT5S}") Duration window) {
+    this.recentWrites = Caffeine.newBuilder()
+        .expireAfterWrite(window)
+        .maximumSize(100_000)
+        .build();
+  }
+
+  public void recordWrite(UUID id) {
+    if (id != null) {
+      this.recentWrites.put(id, Boolean.TRUE);
+    }
+  }
+
+  public <T> T read(UUID id, Supplier<T> query) {
+    return this.recentWrites.getIfPresent(id) != null ? this.onPrimary(query) : query.get();
+  }
+
+  /**
+   * true si una lectura del cliente hecha en este hilo iria a la base principal.
+   */
+  public boolean requiresPrimary(UUID id) {
+    return isPrimaryRequired() || this.recentWrites.getIfPresent(id) != null;
+  }
+
+  public <T> T read(Collection<UUID> ids, Supplier<T> query) {
+    return ids.stream().anyMatch(id -> this.recentWrites.getIfPresent(id) != null)
+        ? this.onPrimary(query) : query.get();
+  }
+
+  public <T> T onPrimary(Supplier<T> query) {
+    Boolean previous = PRIMARY_REQUIRED.get();
+    PRIMARY_REQUIRED.set(Boolean.TRUE);
+    try {
+      return query.get();
+    } finally {
+      if (previous == null) {
+        PRIMARY_REQUIRED.remove();
+      }
+    }
+  }
+
+  static boolean isPrimaryRequired() {
+    return PRIMARY_REQUIRED.get() != null;
+  }
+}
@@ -0,0 +1,29 @@
+package com.danny.customerms.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Replicas de lectura, {@code customer.datasource.replicas[n].url|username|password}.
+ */
+@Getter
+@Setter
+public class ReplicaProperties {
+
+  private List<Replica> replicas = new ArrayList<>();
+  private Duration replicaRetryAfter = Duration.ofSeconds(30);
+  private Duration replicaConnectionTimeout = Duration.ofSeconds(1);
+  private int replicaMaximumPoolSize = 10;
+
+  @Getter
+  @Setter
+  public static class Replica {
+
+    private String url;
+    private String username;
+    private String password;
+  }
+}
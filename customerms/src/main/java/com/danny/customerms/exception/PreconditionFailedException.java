@@ -0,0 +1,15 @@
+package com.danny.customerms.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class PreconditionFailedException extends RuntimeException {
+
+  private final int statusCode;
+
+  public PreconditionFailedException(String message) {
+    super(message);
+    this.statusCode = HttpStatus.PRECONDITION_FAILED.value();
+  }
+}
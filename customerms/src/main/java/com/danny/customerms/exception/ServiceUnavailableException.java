@@ -0,0 +1,15 @@
+package com.danny.customerms.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+  private final int statusCode;
+
+  public ServiceUnavailableException(String message) {
+    super(message);
+    this.statusCode = HttpStatus.SERVICE_UNAVAILABLE.value();
+  }
+}
@@ -0,0 +1,60 @@
+package com.danny.customerms.model;
+
+import com.danny.customerms.business.SearchText;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "customer", uniqueConstraints = {
+    @UniqueConstraint(name = Customer.EMAIL_CONSTRAINT, columnNames = "email"),
+    @UniqueConstraint(name = Customer.DNI_CONSTRAINT, columnNames = "dni")})
+public class Customer {
+
+  public static final String EMAIL_CONSTRAINT = "uk_customer_email";
+  public static final String DNI_CONSTRAINT = "uk_customer_dni";
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  private UUID id;
+  @Column(nullable = false, length = 30)
+  private String nombre;
+  @Column(nullable = false, length = 60)
+  private String apellido;
+  @Column(nullable = false, length = 8)
+  private String dni;
+  @Column(nullable = false)
+  private String email;
+  @Version
+  private Long version;
+
+  // Copias en minusculas y sin tildes que usa la busqueda por prefijo
+  @Column(name = "nombre_norm", length = 30)
+  private String nombreNorm;
+  @Column(name = "apellido_norm", length = 60)
+  private String apellidoNorm;
+  @Column(name = "email_norm")
+  private String emailNorm;
+
+  @PrePersist
+  @PreUpdate
+  void normalizeSearchColumns() {
+    this.nombreNorm = SearchText.normalize(this.nombre);
+    this.apellidoNorm = SearchText.normalize(this.apellido);
+    this.emailNorm = SearchText.normalize(this.email);
+  }
+}
@@ -0,0 +1,8 @@
+package com.danny.customerms.repository;
+
+public interface CustomerKeys {
+
+  String getEmail();
+
+  String getDni();
+}
@@ -0,0 +1,15 @@
+package com.danny.customerms.repository;
+
+import com.danny.customerms.model.CustomerPatchRequest;
+import java.util.UUID;
+
+public interface CustomerPatchRepository {
+
+  /**
+   * Escribe solo los campos enviados e incrementa la version con un unico UPDATE. Con
+   * {@code expectedVersion} la fila se actualiza solo si conserva esa version.
+   *
+   * @return filas actualizadas, 0 si el cliente no existe o su version es otra
+   */
+  int updateChangedColumns(UUID id, CustomerPatchRequest patchRequest, Long expectedVersion);
+}
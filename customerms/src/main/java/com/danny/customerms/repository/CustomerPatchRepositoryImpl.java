@@ -0,0 +1,48 @@
+package com.danny.customerms.repository;
+
+import com.danny.customerms.business.SearchText;
+import com.danny.customerms.model.Customer;
+import com.danny.customerms.model.CustomerPatchRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.UUID;
+
+class CustomerPatchRepositoryImpl implements CustomerPatchRepository {
+
+  @PersistenceContext
+  EntityManager entityManager;
+
+  @Override
+  public int updateChangedColumns(UUID id, CustomerPatchRequest patchRequest,
+      Long expectedVersion) {
+    CriteriaBuilder builder = this.entityManager.getCriteriaBuilder();
+    CriteriaUpdate<Customer> update = builder.createCriteriaUpdate(Customer.class);
+    Root<Customer> customer = update.from(Customer.class);
+    if (patchRequest.getNombre() != null) {
+      update.set(customer.<String>get("nombre"), patchRequest.getNombre());
+      update.set(customer.<String>get("nombreNorm"), SearchText.normalize(patchRequest.getNombre()));
+    }
+    if (patchRequest.getApellido() != null) {
+      update.set(customer.<String>get("apellido"), patchRequest.getApellido());
+      update.set(customer.<String>get("apellidoNorm"),
+          SearchText.normalize(patchRequest.getApellido()));
+    }
+    if (patchRequest.getDni() != null) {
+      update.set(customer.<String>get("dni"), patchRequest.getDni());
+    }
+    if (patchRequest.getEmail() != null) {
+      update.set(customer.<String>get("email"), patchRequest.getEmail());
+      update.set(customer.<String>get("emailNorm"), SearchText.normalize(patchRequest.getEmail()));
+    }
+    update.set(customer.<Long>get("version"), builder.sum(customer.<Long>get("version"), 1L));
+
+    Predicate sameCustomer = builder.equal(customer.get("id"), id);
+    update.where(expectedVersion == null ? sameCustomer
+        : builder.and(sameCustomer, builder.equal(customer.get("version"), expectedVersion)));
+    return this.entityManager.createQuery(update).executeUpdate();
+  }
+}
@@ -0,0 +1,83 @@
+package com.danny.customerms.repository;
+
+import com.danny.customerms.model.Customer;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface CustomerRepository extends JpaRepository<Customer, UUID>,
+    CustomerPatchRepository {
+
+  String SELECT_VIEW = "select new com.danny.customerms.repository.CustomerView(c.id, c.nombre, "
+      + "c.apellido, c.dni, c.email, c.version) from Customer c ";
+
+  boolean existsByEmail(String email);
+
+  boolean existsByDni(String dni);
+
+  List<CustomerKeys> findByEmailInOrDniIn(Collection<String> emails, Collection<String> dnis);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("select c.email as email, c.dni as dni from Customer c")
+  Stream<CustomerKeys> streamKeys();
+
+  @Query("select c.version from Customer c where c.id = :id")
+  Optional<Long> findVersionById(@Param("id") UUID id);
+
+  // Lecturas del listado y del detalle: proyecciones que no pasan por el contexto de persistencia
+  @Query(SELECT_VIEW + "order by c.id")
+  Slice<CustomerView> findViewsOrderById(Pageable pageable);
+
+  @Query(SELECT_VIEW + "where c.id > :id order by c.id")
+  Slice<CustomerView> findViewsAfterOrderById(@Param("id") UUID id, Pageable pageable);
+
+  @Query(SELECT_VIEW + "where c.id = :id")
+  Optional<CustomerView> findViewById(@Param("id") UUID id);
+
+  @Query(SELECT_VIEW + "where c.id in :ids")
+  List<CustomerView> findViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  // Paginas grandes: se recorren con un cursor de base de datos en lugar de cargarse en una lista
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query(SELECT_VIEW + "order by c.id")
+  Stream<CustomerView> streamViewsOrderById(Pageable pageable);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query(SELECT_VIEW + "where c.id > :id order by c.id")
+  Stream<CustomerView> streamViewsAfterOrderById(@Param("id") UUID id, Pageable pageable);
+
+  @Query("select c.id from Customer c order by c.id")
+  List<UUID> findIdsOrderById(Pageable pageable);
+
+  @Query("select c.id from Customer c where c.id > :id order by c.id")
+  List<UUID> findIdsAfterOrderById(@Param("id") UUID id, Pageable pageable);
+
+  // Busquedas por prefijo: cada una recorre un rango del indice de su columna normalizada
+  List<Customer> findByApellidoNormStartingWithOrderByApellidoNormAscIdAsc(String prefix,
+      Pageable pageable);
+
+  List<Customer> findByNombreNormStartingWithOrderByNombreNormAscIdAsc(String prefix,
+      Pageable pageable);
+
+  List<Customer> findByEmailNormStartingWithOrderByEmailNormAscIdAsc(String prefix,
+      Pageable pageable);
+
+  List<Customer> findByDniStartingWithOrderByDniAscIdAsc(String prefix, Pageable pageable);
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")})
+  @Query("select c from Customer c")
+  Stream<Customer> streamAll();
+}
@@ -0,0 +1,12 @@
+package com.danny.customerms.repository;
+
+import java.util.UUID;
+
+/**
+ * Columnas de un cliente leidas con una expresion constructora: Hibernate no crea la entidad, no
+ * la registra en el contexto de persistencia ni guarda su copia para el dirty checking.
+ */
+public record CustomerView(UUID id, String nombre, String apellido, String dni, String email,
+                           Long version) {
+
+}
@@ -0,0 +1,92 @@
+package com.danny.customerms.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Pageable que interpreta el offset como numero de registro y no como numero de pagina.
+ */
+public class OffsetPageRequest implements Pageable {
+
+  private final long offset;
+  private final int limit;
+  private final Sort sort;
+
+  public OffsetPageRequest(long offset, int limit) {
+    this(offset, limit, Sort.unsorted());
+  }
+
+  public OffsetPageRequest(long offset, int limit, Sort sort) {
+    if (offset < 0) {
+      throw new IllegalArgumentException("Offset must not be less than zero");
+    }
+    if (limit < 1) {
+      throw new IllegalArgumentException("Limit must not be less than one");
+    }
+    this.offset = offset;
+    this.limit = limit;
+    this.sort = sort;
+  }
+
+  @Override
+  public int getPageNumber() {
+    return (int) (this.offset / this.limit);
+  }
+
+  @Override
+  public int getPageSize() {
+    return this.limit;
+  }
+
+  @Override
+  public long getOffset() {
+    return this.offset;
+  }
+
+  @Override
+  public Sort getSort() {
+    return this.sort;
+  }
+
+  @Override
+  public Pageable next() {
+    return new OffsetPageRequest(this.offset + this.limit, this.limit, this.sort);
+  }
+
+  @Override
+  public Pageable previousOrFirst() {
+    return this.hasPrevious() ? new OffsetPageRequest(Math.max(this.offset - this.limit, 0),
+        this.limit, this.sort) : this.first();
+  }
+
+  @Override
+  public Pageable first() {
+    return new OffsetPageRequest(0, this.limit, this.sort);
+  }
+
+  @Override
+  public Pageable withPage(int pageNumber) {
+    return new OffsetPageRequest((long) pageNumber * this.limit, this.limit, this.sort);
+  }
+
+  @Override
+  public boolean hasPrevious() {
+    return this.offset > 0;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof OffsetPageRequest that)) {
+      return false;
+    }
+    return this.offset == that.offset && this.limit == that.limit && this.sort.equals(that.sort);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * Long.hashCode(this.offset) + this.limit) + this.sort.hashCode();
+  }
+}
@@ -0,0 +1,46 @@
+package db.migration;
+
+import com.danny.customerms.business.SearchText;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Recalcula las columnas normalizadas con {@link SearchText#normalize}: V2 las lleno con LOWER, que
+ * no quita las tildes, y la busqueda no encontraba esos clientes escribiendo sin tildes.
+ */
+public class V4__normalize_customer_search_columns extends BaseJavaMigration {
+
+  private static final int BATCH_SIZE = 500;
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    try (Statement select = connection.createStatement();
+        PreparedStatement update = connection.prepareStatement(
+            "UPDATE customer SET nombre_norm = ?, apellido_norm = ?, email_norm = ? WHERE id = ?")) {
+      select.setFetchSize(BATCH_SIZE);
+      try (ResultSet rows = select.executeQuery(
+          "SELECT id, nombre, apellido, email FROM customer")) {
+        int pending = 0;
+        while (rows.next()) {
+          update.setString(1, SearchText.normalize(rows.getString("nombre")));
+          update.setString(2, SearchText.normalize(rows.getString("apellido")));
+          update.setString(3, SearchText.normalize(rows.getString("email")));
+          update.setObject(4, rows.getObject("id"));
+          update.addBatch();
+          if (++pending == BATCH_SIZE) {
+            update.executeBatch();
+            pending = 0;
+          }
+        }
+        if (pending > 0) {
+          update.executeBatch();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,10 @@
+CREATE TABLE customer (
+    id       UUID         NOT NULL,
+    nombre   VARCHAR(30)  NOT NULL,
+    apellido VARCHAR(60)  NOT NULL,
+    dni      VARCHAR(8)   NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_customer PRIMARY KEY (id),
+    CONSTRAINT uk_customer_email UNIQUE (email),
+    CONSTRAINT uk_customer_dni UNIQUE (dni)
+);
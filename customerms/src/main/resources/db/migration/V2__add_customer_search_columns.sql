@@ -0,0 +1,14 @@
+-- Copias normalizadas (minusculas, sin tildes) para buscar por prefijo usando un indice.
+-- En PostgreSQL los indices deben crearse con varchar_pattern_ops si la base no usa collation C.
+ALTER TABLE customer ADD COLUMN nombre_norm VARCHAR(30);
+ALTER TABLE customer ADD COLUMN apellido_norm VARCHAR(60);
+ALTER TABLE customer ADD COLUMN email_norm VARCHAR(255);
+
+UPDATE customer
+SET nombre_norm   = LOWER(nombre),
+    apellido_norm = LOWER(apellido),
+    email_norm    = LOWER(email);
+
+CREATE INDEX ix_customer_apellido_norm ON customer (apellido_norm, id);
+CREATE INDEX ix_customer_nombre_norm ON customer (nombre_norm, id);
+CREATE INDEX ix_customer_email_norm ON customer (email_norm, id);
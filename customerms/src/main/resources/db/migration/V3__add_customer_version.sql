@@ -0,0 +1,2 @@
+-- Version para bloqueo optimista y ETag; aumenta en cada actualizacion.
+ALTER TABLE customer ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,237 @@
+package com.danny.customerms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.danny.customerms.business.CustomerPage;
+import com.danny.customerms.business.CustomerService;
+import com.danny.customerms.exception.PreconditionFailedException;
+import com.danny.customerms.model.CustomerBatchGetRequest;
+import com.danny.customerms.model.CustomerBatchGetResponse;
+import com.danny.customerms.model.CustomerPatchRequest;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.model.ModelApiResponse;
+import com.danny.customerms.repository.OffsetPageRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class CustomerDelegateImplTest {
+
+  @Mock
+  private CustomerService customerService;
+
+  @Mock
+  private NativeWebRequest nativeWebRequest;
+
+  @InjectMocks
+  private CustomerDelegateImpl customerDelegate;
+
+  private CustomerRequest customerRequest;
+  private CustomerResponse customerResponse;
+
+  @BeforeEach
+  public void setUp() {
+    customerRequest = new CustomerRequest();
+    customerResponse = new CustomerResponse();
+    customerResponse.setVersion(1L);
+    customerDelegate.streamingThreshold = 500;
+  }
+
+  @Test
+  public void testCreateCustomer() {
+    given(customerService.createCustomer(any(CustomerRequest.class))).willReturn(customerResponse);
+
+    ResponseEntity<CustomerResponse> response = customerDelegate.createCustomer(customerRequest);
+
+    assertNotNull(response);
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(customerResponse, response.getBody());
+  }
+
+  @Test
+  public void DeleteCustomer() {
+    given(customerService.deleteCustomer(any(UUID.class))).willReturn(new ModelApiResponse());
+    ResponseEntity<ModelApiResponse> response = customerDelegate.deleteCustomer(UUID.randomUUID());
+
+    assertNotNull(response);
+    assertEquals(200, response.getStatusCode().value());
+
+  }
+
+  @Test
+  public void testGetCustomerDetails() {
+    given(customerService.getCustomerDetails(any(UUID.class))).willReturn(customerResponse);
+
+    ResponseEntity<CustomerResponse> response = customerDelegate.findCustomerById(
+        UUID.randomUUID());
+
+    assertNotNull(response);
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(customerResponse, response.getBody());
+    assertEquals("\"1\"", response.getHeaders().getETag());
+  }
+
+  @Test
+  public void testGetCustomerDetailsNotModified() {
+    UUID id = UUID.randomUUID();
+    given(nativeWebRequest.getHeader("If-None-Match")).willReturn("\"1\"");
+    given(customerService.getCustomerVersion(id)).willReturn(1L);
+    given(nativeWebRequest.checkNotModified("\"1\"")).willReturn(true);
+
+    ResponseEntity<CustomerResponse> response = customerDelegate.findCustomerById(id);
+
+    assertNull(response);
+    verify(customerService, never()).getCustomerDetails(id);
+  }
+
+  @Test
+  public void testUpdateCustomer() {
+    given(customerService.updateCustomer(any(UUID.class), any(CustomerRequest.class), any()))
+        .willReturn(customerResponse);
+
+    ResponseEntity<CustomerResponse> response = customerDelegate.updateCustomer(UUID.randomUUID(),
+        customerRequest);
+
+    assertNotNull(response);
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(customerResponse, response.getBody());
+  }
+
+  @Test
+  public void testUpdateCustomerWithIfMatch() {
+    UUID id = UUID.randomUUID();
+    given(nativeWebRequest.getHeader("If-Match")).willReturn("\"3\"");
+    given(customerService.updateCustomer(id, customerRequest, 3L)).willReturn(customerResponse);
+
+    ResponseEntity<CustomerResponse> response = customerDelegate.updateCustomer(id,
+        customerRequest);
+
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals("\"1\"", response.getHeaders().getETag());
+  }
+
+  @Test
+  public void testUpdateCustomerWithWeakIfMatch() {
+    given(nativeWebRequest.getHeader("If-Match")).willReturn("W/\"3\"");
+
+    assertThrows(PreconditionFailedException.class,
+        () -> customerDelegate.updateCustomer(UUID.randomUUID(), customerRequest));
+  }
+
+  @Test
+  public void testPatchCustomer() {
+    UUID id = UUID.randomUUID();
+    CustomerPatchRequest patch = new CustomerPatchRequest();
+    given(nativeWebRequest.getHeader("If-Match")).willReturn("\"1\"");
+    given(customerService.patchCustomer(id, patch, 1L)).willReturn(customerResponse);
+
+    ResponseEntity<CustomerResponse> response = customerDelegate.patchCustomer(id, patch);
+
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(customerResponse, response.getBody());
+    assertEquals("\"1\"", response.getHeaders().getETag());
+  }
+
+  @Test
+  public void testFindCustomers() {
+    given(customerService.getCustomers(any(Integer.class), any(Integer.class), any())).willReturn(
+        new CustomerPage(List.of(customerResponse), "cursor", 1L));
+
+    ResponseEntity<List<CustomerResponse>> response = customerDelegate.findCustomers(20, 0, null);
+
+    assertNotNull(response);
+    assertEquals(200, response.getStatusCode().value());
+    assertNotNull(response.getBody());
+    assertEquals(1, response.getBody().size());
+    assertEquals("cursor", response.getHeaders().getFirst("X-Next-Cursor"));
+    assertEquals("1", response.getHeaders().getFirst("X-Total-Count"));
+    assertNotNull(response.getHeaders().getETag());
+  }
+
+  @Test
+  public void testFindCustomersStreamsLargePages() {
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+    given(nativeWebRequest.getNativeResponse(HttpServletResponse.class)).willReturn(
+        servletResponse);
+    given(customerService.getCustomerPageInfo(5000, 0, null)).willReturn(
+        new CustomerPage(List.of(), "cursor", 10000L));
+
+    ResponseEntity<List<CustomerResponse>> response = customerDelegate.findCustomers(5000, 0,
+        null);
+
+    assertNull(response);
+    assertEquals(200, servletResponse.getStatus());
+    assertEquals("application/json", servletResponse.getContentType());
+    assertEquals("cursor", servletResponse.getHeader("X-Next-Cursor"));
+    assertEquals("10000", servletResponse.getHeader("X-Total-Count"));
+    verify(customerService).writeCustomers(eq(5000), eq(0), isNull(), any(OutputStream.class));
+    verify(customerService, never()).getCustomers(any(Integer.class), any(Integer.class), any());
+  }
+
+  @Test
+  public void testFindCustomersByIds() {
+    UUID id = UUID.randomUUID();
+    CustomerBatchGetRequest request = new CustomerBatchGetRequest();
+    request.setIds(List.of(id));
+    CustomerBatchGetResponse batch = new CustomerBatchGetResponse();
+    batch.setMissing(List.of(id));
+    given(customerService.getCustomersByIds(List.of(id))).willReturn(batch);
+
+    ResponseEntity<CustomerBatchGetResponse> response = customerDelegate.findCustomersByIds(
+        request);
+
+    assertEquals(200, response.getStatusCode().value());
+    assertEquals(batch, response.getBody());
+  }
+
+  @Test
+  public void testSearchCustomers() {
+    given(customerService.searchCustomers("vera", 1, 0)).willReturn(
+        new SliceImpl<>(List.of(customerResponse), new OffsetPageRequest(0, 1), true));
+
+    ResponseEntity<List<CustomerResponse>> response = customerDelegate.searchCustomers("vera", 1,
+        0);
+
+    assertEquals(200, response.getStatusCode().value());
+    assertNotNull(response.getBody());
+    assertEquals(1, response.getBody().size());
+    assertEquals("1", response.getHeaders().getFirst("X-Next-Offset"));
+  }
+
+  @Test
+  public void testExportCustomersWritesToServletResponse() {
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+    given(nativeWebRequest.getNativeResponse(HttpServletResponse.class)).willReturn(
+        servletResponse);
+
+    ResponseEntity<Resource> response = customerDelegate.exportCustomers();
+
+    assertNull(response);
+    assertEquals(200, servletResponse.getStatus());
+    assertEquals("application/x-ndjson", servletResponse.getContentType());
+    verify(customerService).exportCustomers(any(OutputStream.class));
+  }
+}
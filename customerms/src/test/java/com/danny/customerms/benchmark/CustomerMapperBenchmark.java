@@ -0,0 +1,80 @@
+package com.danny.customerms.benchmark;
+
+import com.danny.customerms.business.CustomerMapper;
+import com.danny.customerms.business.CustomerValidator;
+import com.danny.customerms.model.Customer;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Costo de {@link CustomerMapper} (incluidos los setters de Customer) por pagina de clientes, solo
+ * y precedido por la validacion que hace createCustomer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerMapperBenchmark {
+
+  @Param({"20", "100", "1000"})
+  public int pageSize;
+
+  private final CustomerMapper customerMapper = new CustomerMapper();
+  private final CustomerValidator customerValidator = new CustomerValidator();
+  private List<CustomerRequest> requests;
+  private List<Customer> customers;
+
+  @Setup
+  public void setUp() {
+    requests = new ArrayList<>(pageSize);
+    customers = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      CustomerRequest request = new CustomerRequest();
+      request.setNombre("Danny");
+      request.setApellido("Vera Palomino");
+      request.setDni(String.format("%08d", i));
+      request.setEmail("cliente" + i + "@nttdata.com");
+      requests.add(request);
+      Customer customer = customerMapper.getCustomerFromRequest(request);
+      customer.setId(UUID.randomUUID());
+      customers.add(customer);
+    }
+  }
+
+  @Benchmark
+  public List<Customer> requestToEntity() {
+    return requests.stream().map(customerMapper::getCustomerFromRequest).toList();
+  }
+
+  @Benchmark
+  public List<Customer> validatedRequestToEntity() {
+    List<Customer> result = new ArrayList<>(requests.size());
+    for (CustomerRequest request : requests) {
+      customerValidator.requireValid(customerValidator.validate(request));
+      result.add(customerMapper.getCustomerFromRequest(request));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<CustomerResponse> entityToResponse() {
+    return customers.stream().map(customerMapper::getCustomerResponseFromCustomer).toList();
+  }
+}
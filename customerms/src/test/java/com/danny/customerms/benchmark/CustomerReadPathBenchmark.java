@@ -0,0 +1,136 @@
+package com.danny.customerms.benchmark;
+
+import com.danny.customerms.CustomerMsApplication;
+import com.danny.customerms.business.CustomerMapper;
+import com.danny.customerms.model.Customer;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.repository.CustomerRepository;
+import com.danny.customerms.repository.OffsetPageRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Lectura de una pagina y de un cliente cargando entidades y copiandolas con el mapper, frente a
+ * las proyecciones {@code CustomerView} que usa el servicio. Ambas en una transaccion de solo
+ * lectura y sin la cache de clientes; {@code gc.alloc.rate.norm} del perfilador gc
+ * ({@code -prof gc}) da los bytes asignados por peticion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerReadPathBenchmark {
+
+  private static final int DATASET_SIZE = 10_000;
+
+  @Param({"20", "100"})
+  public int pageSize;
+
+  private ConfigurableApplicationContext context;
+  private CustomerRepository customerRepository;
+  private CustomerMapper customerMapper;
+  private EntityManagerFactory entityManagerFactory;
+  private TransactionTemplate readOnly;
+  private List<UUID> ids;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(CustomerMsApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties("eureka.client.enabled=false",
+            "spring.datasource.url=jdbc:h2:mem:readpath;DB_CLOSE_DELAY=-1",
+            "logging.level.root=WARN")
+        .run();
+    customerRepository = context.getBean(CustomerRepository.class);
+    customerMapper = context.getBean(CustomerMapper.class);
+    entityManagerFactory = context.getBean(EntityManagerFactory.class);
+    readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    readOnly.setReadOnly(true);
+
+    ids = new ArrayList<>(DATASET_SIZE);
+    List<Object[]> rows = new ArrayList<>(DATASET_SIZE);
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      UUID id = UUID.randomUUID();
+      ids.add(id);
+      rows.add(new Object[]{id, "Nombre", "Apellido", String.format("%08d", i),
+          "bench" + i + "@example.com"});
+    }
+    context.getBean(JdbcTemplate.class).batchUpdate(
+        "insert into customer (id, nombre, apellido, dni, email) values (?, ?, ?, ?, ?)", rows);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<CustomerResponse> pageWithEntities() {
+    return readOnly.execute(status -> entityManager()
+        .createQuery("select c from Customer c order by c.id", Customer.class)
+        .setFirstResult(DATASET_SIZE / 2)
+        .setMaxResults(pageSize + 1)
+        .getResultList().stream()
+        .limit(pageSize)
+        .map(customerMapper::getCustomerResponseFromCustomer)
+        .toList());
+  }
+
+  @Benchmark
+  public List<CustomerResponse> pageWithProjection() {
+    return readOnly.execute(status -> customerRepository
+        .findViewsOrderById(new OffsetPageRequest(DATASET_SIZE / 2, pageSize))
+        .map(customerMapper::getCustomerResponseFromView)
+        .getContent());
+  }
+
+  @Benchmark
+  public CustomerResponse detailsWithEntity() {
+    UUID id = nextId();
+    return readOnly.execute(status -> customerRepository.findById(id)
+        .map(customerMapper::getCustomerResponseFromCustomer).orElseThrow());
+  }
+
+  @Benchmark
+  public CustomerResponse detailsWithProjection() {
+    UUID id = nextId();
+    return readOnly.execute(status -> customerRepository.findViewById(id)
+        .map(customerMapper::getCustomerResponseFromView).orElseThrow());
+  }
+
+  private EntityManager entityManager() {
+    return EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+  }
+
+  private UUID nextId() {
+    next = (next + 1) % ids.size();
+    return ids.get(next);
+  }
+}
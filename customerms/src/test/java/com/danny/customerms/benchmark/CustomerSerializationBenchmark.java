@@ -0,0 +1,68 @@
+package com.danny.customerms.benchmark;
+
+import com.danny.customerms.model.CustomerResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializacion a JSON de una pagina de {@link CustomerResponse}, como la que devuelve GET
+ * /customer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerSerializationBenchmark {
+
+  @Param({"20", "100", "1000"})
+  public int pageSize;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private ObjectWriter pageWriter;
+  private List<CustomerResponse> page;
+
+  @Setup
+  public void setUp() {
+    pageWriter = objectMapper.writerFor(new TypeReference<List<CustomerResponse>>() {
+    });
+    page = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      CustomerResponse response = new CustomerResponse();
+      response.setId(UUID.randomUUID());
+      response.setNombre("Danny");
+      response.setApellido("Vera Palomino");
+      response.setDni(String.format("%08d", i));
+      response.setEmail("cliente" + i + "@nttdata.com");
+      page.add(response);
+    }
+  }
+
+  @Benchmark
+  public byte[] serializePage() throws IOException {
+    return pageWriter.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public byte[] serializePageWithoutTypedWriter() throws IOException {
+    return objectMapper.writeValueAsBytes(page);
+  }
+}
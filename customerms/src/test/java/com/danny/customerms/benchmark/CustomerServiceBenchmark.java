@@ -0,0 +1,105 @@
+package com.danny.customerms.benchmark;
+
+import com.danny.customerms.CustomerMsApplication;
+import com.danny.customerms.business.CustomerPage;
+import com.danny.customerms.business.CustomerService;
+import com.danny.customerms.model.CustomerResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link CustomerService} con el contexto de Spring completo sobre H2 en memoria, para
+ * {@code datasetSize} clientes. Cada combinacion de parametros levanta su propio contexto.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerServiceBenchmark {
+
+  @Param({"1000", "100000"})
+  public int datasetSize;
+
+  @Param({"20", "100"})
+  public int pageSize;
+
+  private ConfigurableApplicationContext context;
+  private CustomerService customerService;
+  private List<UUID> ids;
+  private String middleCursor;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(CustomerMsApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties("eureka.client.enabled=false",
+            "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "logging.level.root=WARN")
+        .run();
+    customerService = context.getBean(CustomerService.class);
+
+    ids = new ArrayList<>(datasetSize);
+    List<Object[]> rows = new ArrayList<>(datasetSize);
+    for (int i = 0; i < datasetSize; i++) {
+      UUID id = UUID.randomUUID();
+      ids.add(id);
+      rows.add(new Object[]{id, "Nombre", "Apellido", String.format("%08d", i),
+          "bench" + i + "@example.com"});
+    }
+    context.getBean(JdbcTemplate.class).batchUpdate(
+        "insert into customer (id, nombre, apellido, dni, email) values (?, ?, ?, ?, ?)", rows);
+    middleCursor = customerService.getCustomers(pageSize, datasetSize / 2, null).getNextCursor();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public CustomerPage firstPage() {
+    return customerService.getCustomers(pageSize, 0, null);
+  }
+
+  @Benchmark
+  public CustomerPage middlePageByOffset() {
+    return customerService.getCustomers(pageSize, datasetSize / 2, null);
+  }
+
+  @Benchmark
+  public CustomerPage middlePageByCursor() {
+    return customerService.getCustomers(pageSize, 0, middleCursor);
+  }
+
+  /**
+   * Incluye la cache de clientes con su configuracion por defecto: con mas clientes que entradas
+   * en la cache parte de las consultas llegan a H2.
+   */
+  @Benchmark
+  public CustomerResponse customerDetails() {
+    next = (next + 1) % ids.size();
+    return customerService.getCustomerDetails(ids.get(next));
+  }
+}
@@ -0,0 +1,119 @@
+package com.danny.customerms.benchmark;
+
+import com.danny.customerms.business.CustomerValidator;
+import com.danny.customerms.model.CustomerRequest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara {@link CustomerValidator} con la validacion que hacian antes los setters de Customer
+ * (regex compilada en cada llamada y una excepcion con stack trace por cada error).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CustomerValidationBenchmark {
+
+  @Param({"valid", "invalidEmail", "allInvalid"})
+  public String input;
+
+  private final CustomerValidator customerValidator = new CustomerValidator();
+  private CustomerRequest customerRequest;
+
+  @Setup
+  public void setUp() {
+    customerRequest = new CustomerRequest();
+    customerRequest.setNombre("Danny");
+    customerRequest.setApellido("Vera Palomino");
+    customerRequest.setDni("77885544");
+    customerRequest.setEmail("danny@nttdata.com");
+    if ("invalidEmail".equals(input)) {
+      customerRequest.setEmail("danny@nttdata");
+    } else if ("allInvalid".equals(input)) {
+      customerRequest.setNombre(" ");
+      customerRequest.setApellido("");
+      customerRequest.setDni("123");
+      customerRequest.setEmail("danny");
+    }
+  }
+
+  @Benchmark
+  public List<String> validator() {
+    return customerValidator.validate(customerRequest);
+  }
+
+  @Benchmark
+  public String setterValidation() {
+    SetterValidatedCustomer customer = new SetterValidatedCustomer();
+    try {
+      customer.setNombre(customerRequest.getNombre());
+      customer.setApellido(customerRequest.getApellido());
+      customer.setDni(customerRequest.getDni());
+      customer.setEmail(customerRequest.getEmail());
+      return null;
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+
+  /**
+   * Copia de la validacion que tenian los setters de la entidad Customer.
+   */
+  static class SetterValidatedCustomer {
+
+    private String nombre;
+    private String apellido;
+    private String dni;
+    private String email;
+
+    void setNombre(String nombre) {
+      if (nombre == null || nombre.isEmpty() || nombre.isBlank()) {
+        throw new IllegalArgumentException("Proporcione un nombre");
+      }
+      this.nombre = nombre;
+    }
+
+    void setApellido(String apellido) {
+      if (apellido == null || apellido.isEmpty() || apellido.isBlank()) {
+        throw new IllegalArgumentException("Proporcione un apellido");
+      }
+      this.apellido = apellido;
+    }
+
+    void setDni(String dni) {
+      if (dni == null || dni.isBlank() || dni.length() != 8) {
+        throw new IllegalArgumentException("DNI no valido, tiene que ser de 8 caracteres");
+      }
+      this.dni = dni;
+    }
+
+    void setEmail(String email) {
+      if (email == null || email.isEmpty() || email.isBlank()) {
+        throw new IllegalArgumentException("Proporcione un email");
+      }
+      String emailRegex = "^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,6}$";
+      Pattern pattern = Pattern.compile(emailRegex, Pattern.CASE_INSENSITIVE);
+      Matcher matcher = pattern.matcher(email);
+      if (!matcher.matches()) {
+        throw new IllegalArgumentException("Email invalido");
+      }
+      this.email = email;
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.danny.customerms.model.CustomerBulkResponse;
+import com.danny.customerms.model.CustomerRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "eureka.client.enabled=false")
+public class CustomerBulkImportTest {
+
+  private static final Logger log = LoggerFactory.getLogger(CustomerBulkImportTest.class);
+  private static final int CUSTOMERS = 2_000;
+
+  @Autowired
+  private CustomerService customerService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.update("delete from customer");
+  }
+
+  @Test
+  @DisplayName("Test importar en lote vs registrar uno por uno")
+  public void testBulkImportAgainstOneByOne() {
+    List<CustomerRequest> oneByOne = createRequests(0);
+    List<CustomerRequest> bulk = createRequests(CUSTOMERS);
+
+    long start = System.nanoTime();
+    oneByOne.forEach(customerService::createCustomer);
+    long oneByOneNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    CustomerBulkResponse response = customerService.createCustomers(bulk);
+    long bulkNanos = System.nanoTime() - start;
+
+    log.info("Registro uno por uno: {} clientes/s, en lote: {} clientes/s",
+        throughput(oneByOneNanos), throughput(bulkNanos));
+    assertEquals(CUSTOMERS, response.getCreated());
+    assertEquals(0, response.getFailed());
+    assertEquals(2L * CUSTOMERS,
+        jdbcTemplate.queryForObject("select count(*) from customer", Long.class));
+  }
+
+  private long throughput(long nanos) {
+    return CUSTOMERS * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+  }
+
+  private List<CustomerRequest> createRequests(int offset) {
+    List<CustomerRequest> requests = new ArrayList<>(CUSTOMERS);
+    for (int i = offset; i < offset + CUSTOMERS; i++) {
+      CustomerRequest request = new CustomerRequest();
+      request.setNombre("Nombre" + i);
+      request.setApellido("Apellido" + i);
+      request.setDni(String.format("%08d", i));
+      request.setEmail("cliente" + i + "@example.com");
+      requests.add(request);
+    }
+    return requests;
+  }
+}
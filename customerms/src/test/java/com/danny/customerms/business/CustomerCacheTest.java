@@ -0,0 +1,93 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.danny.customerms.clients.AccountClient;
+import com.danny.customerms.config.CacheConfig;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "eureka.client.enabled=false")
+public class CustomerCacheTest {
+
+  @Autowired
+  private CustomerService customerService;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private AccountClient accountClient;
+
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.update("delete from customer");
+    customersCache().clear();
+  }
+
+  @Test
+  @DisplayName("Test cache - la segunda lectura no consulta la base de datos")
+  public void testGetCustomerDetailsIsReadThrough() {
+    UUID id = customerService.createCustomer(createCustomerRequest()).getId();
+    customerService.getCustomerDetails(id);
+    jdbcTemplate.update("delete from customer where id = ?", id);
+
+    CustomerResponse cached = customerService.getCustomerDetails(id);
+
+    assertEquals(id, cached.getId());
+  }
+
+  @Test
+  @DisplayName("Test cache - actualizar refresca la entrada")
+  public void testUpdateCustomerRefreshesEntry() {
+    UUID id = customerService.createCustomer(createCustomerRequest()).getId();
+    customerService.getCustomerDetails(id);
+    CustomerRequest update = new CustomerRequest();
+    update.setNombre("Renombrado");
+
+    customerService.updateCustomer(id, update, null);
+
+    Cache.ValueWrapper entry = customersCache().get(id);
+    assertNotNull(entry);
+    assertEquals("Renombrado", ((CustomerResponse) entry.get()).getNombre());
+  }
+
+  @Test
+  @DisplayName("Test cache - eliminar invalida la entrada")
+  public void testDeleteCustomerEvictsEntry() {
+    UUID id = customerService.createCustomer(createCustomerRequest()).getId();
+    customerService.getCustomerDetails(id);
+
+    customerService.deleteCustomer(id);
+
+    assertNull(customersCache().get(id));
+  }
+
+  private Cache customersCache() {
+    return cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE);
+  }
+
+  private CustomerRequest createCustomerRequest() {
+    CustomerRequest request = new CustomerRequest();
+    request.setNombre("John");
+    request.setApellido("Doe");
+    request.setDni("12345678");
+    request.setEmail("john@example.com");
+    return request;
+  }
+}
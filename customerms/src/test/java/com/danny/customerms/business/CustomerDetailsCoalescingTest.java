@@ -0,0 +1,130 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.danny.customerms.clients.AccountClient;
+import com.danny.customerms.config.CacheConfig;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.repository.CustomerRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Con un pool de dos conexiones, muchas lecturas concurrentes del mismo cliente deben esperar la
+ * consulta en curso sin tomar una conexion cada una.
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:details-coalescing;DB_CLOSE_DELAY=-1",
+    "spring.datasource.hikari.maximum-pool-size=2",
+    "spring.datasource.hikari.connection-timeout=250"})
+public class CustomerDetailsCoalescingTest {
+
+  private static final int CALLERS = 16;
+
+  @Autowired
+  private CustomerService customerService;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private CustomerDetailsLoader customerDetailsLoader;
+
+  @Autowired
+  private CustomerRepository customerRepository;
+
+  @MockBean
+  private AccountClient accountClient;
+
+  private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+  @AfterEach
+  public void tearDown() {
+    callers.shutdownNow();
+    customerDetailsLoader.customerRepository = customerRepository;
+    jdbcTemplate.update("delete from customer");
+    cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).clear();
+  }
+
+  @Test
+  @DisplayName("Test detalle concurrente - las peticiones que esperan no toman conexiones")
+  public void testWaitingCallersHoldNoConnection() throws Exception {
+    UUID id = UUID.randomUUID();
+    jdbcTemplate.update(
+        "insert into customer (id, nombre, apellido, dni, email) values (?, ?, ?, ?, ?)", id,
+        "Danny", "Vera", "77885544", "danny@example.com");
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CustomerRepository blocking = mock(CustomerRepository.class,
+        AdditionalAnswers.delegatesTo(customerRepository));
+    doAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return customerRepository.findViewById(id);
+    }).when(blocking).findViewById(id);
+    customerDetailsLoader.customerRepository = blocking;
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    double coalescedBefore = coalesced();
+
+    List<Future<CustomerResponse>> results = new ArrayList<>(CALLERS);
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(callers.submit(() -> customerService.getCustomerDetails(id)));
+    }
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (coalesced() - coalescedBefore < CALLERS - 1 && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+
+    assertEquals(CALLERS - 1, coalesced() - coalescedBefore);
+    assertEquals(1, dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean()
+        .getActiveConnections());
+    release.countDown();
+    for (Future<CustomerResponse> result : results) {
+      assertEquals(id, result.get(5, TimeUnit.SECONDS).getId());
+    }
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  private double coalesced() {
+    return meterRegistry.counter(CustomerDetailsLoader.COALESCED_METRIC).count();
+  }
+}
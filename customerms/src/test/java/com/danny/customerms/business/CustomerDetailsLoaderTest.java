@@ -0,0 +1,165 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.danny.customerms.datasource.ReadYourWrites;
+import com.danny.customerms.repository.CustomerRepository;
+import com.danny.customerms.repository.CustomerView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class CustomerDetailsLoaderTest {
+
+  private static final int CALLERS = 16;
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private CustomerDetailsLoader customerDetailsLoader;
+  private SimpleMeterRegistry meterRegistry;
+  private ExecutorService callers;
+  private final UUID id = UUID.randomUUID();
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    customerDetailsLoader = new CustomerDetailsLoader();
+    customerDetailsLoader.customerRepository = customerRepository;
+    customerDetailsLoader.readYourWrites = new ReadYourWrites(Duration.ofSeconds(5));
+    customerDetailsLoader.meterRegistry = meterRegistry;
+    customerDetailsLoader.transactionManager = transactionManager;
+    customerDetailsLoader.init();
+    callers = Executors.newFixedThreadPool(CALLERS);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    callers.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Test detalle concurrente - una sola consulta para el mismo id")
+  public void testConcurrentCallersShareOneQuery() throws Exception {
+    CustomerView view = new CustomerView(id, "Danny", "Vera", "77885544", "danny@example.com",
+        0L);
+    CountDownLatch release = new CountDownLatch(1);
+    given(customerRepository.findViewById(id)).willAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return Optional.of(view);
+    });
+
+    List<Future<Optional<CustomerView>>> results = startCallers();
+    awaitCoalesced(CALLERS - 1);
+    release.countDown();
+
+    for (Future<Optional<CustomerView>> result : results) {
+      assertSame(view, result.get(5, TimeUnit.SECONDS).orElseThrow());
+    }
+    verify(customerRepository, times(1)).findViewById(id);
+    assertEquals(CALLERS - 1, coalesced());
+  }
+
+  @Test
+  @DisplayName("Test detalle concurrente - la excepcion de la consulta llega a todos")
+  public void testConcurrentCallersShareException() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    given(customerRepository.findViewById(id)).willAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      throw new QueryTimeoutException("timeout");
+    });
+
+    List<Future<Optional<CustomerView>>> results = startCallers();
+    awaitCoalesced(CALLERS - 1);
+    release.countDown();
+
+    for (Future<Optional<CustomerView>> result : results) {
+      ExecutionException exception = assertThrows(ExecutionException.class,
+          () -> result.get(5, TimeUnit.SECONDS));
+      assertTrue(exception.getCause() instanceof QueryTimeoutException);
+    }
+    verify(customerRepository, times(1)).findViewById(id);
+  }
+
+  @Test
+  @DisplayName("Test detalle concurrente - tras una escritura no espera la lectura de la replica")
+  public void testRecentWriteDoesNotJoinReplicaQuery() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    given(customerRepository.findViewById(id)).willAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return Optional.empty();
+    }).willReturn(Optional.empty());
+
+    Future<Optional<CustomerView>> replicaRead = callers.submit(
+        () -> customerDetailsLoader.load(id));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    customerDetailsLoader.readYourWrites.recordWrite(id);
+
+    assertTrue(customerDetailsLoader.load(id).isEmpty());
+    release.countDown();
+    assertTrue(replicaRead.get(5, TimeUnit.SECONDS).isEmpty());
+    verify(customerRepository, times(2)).findViewById(id);
+    assertEquals(0, coalesced());
+  }
+
+  @Test
+  @DisplayName("Test detalle - una consulta terminada no se reutiliza")
+  public void testSequentialCallersQueryAgain() {
+    given(customerRepository.findViewById(id)).willReturn(Optional.empty());
+
+    customerDetailsLoader.load(id);
+    customerDetailsLoader.load(id);
+
+    verify(customerRepository, times(2)).findViewById(id);
+    assertEquals(0, coalesced());
+  }
+
+  private List<Future<Optional<CustomerView>>> startCallers() {
+    List<Future<Optional<CustomerView>>> results = new ArrayList<>(CALLERS);
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(callers.submit(() -> customerDetailsLoader.load(id)));
+    }
+    return results;
+  }
+
+  private void awaitCoalesced(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (coalesced() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  private long coalesced() {
+    return (long) meterRegistry.counter(CustomerDetailsLoader.COALESCED_METRIC).count();
+  }
+}
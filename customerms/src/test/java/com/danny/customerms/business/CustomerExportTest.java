@@ -0,0 +1,81 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Solo corre con {@code mvn -Pmemory-test test}, en su propia JVM con un heap pequeño: si la
+ * exportacion retuviera las entidades leidas, el test terminaria con OutOfMemoryError. La base H2
+ * se guarda en disco para que los datos no ocupen ese mismo heap.
+ */
+@SpringBootTest(properties = {"eureka.client.enabled=false",
+    "spring.datasource.url=jdbc:h2:file:./target/h2/export-${random.uuid}"})
+public class CustomerExportTest {
+
+  private static final int DATASET_SIZE = 400_000;
+  private static final int INSERT_BATCH = 10_000;
+
+  @Autowired
+  private CustomerService customerService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    for (int start = 0; start < DATASET_SIZE; start += INSERT_BATCH) {
+      List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+      for (int i = start; i < start + INSERT_BATCH; i++) {
+        rows.add(new Object[]{UUID.randomUUID(), "Nombre" + i, "Apellido" + i,
+            String.format("%08d", i), "cliente" + i + "@example.com"});
+      }
+      jdbcTemplate.batchUpdate(
+          "insert into customer (id, nombre, apellido, dni, email) values (?, ?, ?, ?, ?)", rows);
+    }
+  }
+
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.execute("truncate table customer");
+  }
+
+  @Test
+  @DisplayName("Test exportar clientes - memoria constante con un dataset grande")
+  public void testExportLargeDatasetWithSmallHeap() {
+    LineCountingOutputStream output = new LineCountingOutputStream();
+
+    customerService.exportCustomers(output);
+
+    assertEquals(DATASET_SIZE, output.lines);
+  }
+
+  private static class LineCountingOutputStream extends OutputStream {
+
+    private long lines;
+
+    @Override
+    public void write(int b) {
+      if (b == '\n') {
+        lines++;
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      for (int i = off; i < off + len; i++) {
+        write(b[i]);
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+import com.danny.customerms.repository.CustomerKeys;
+import com.danny.customerms.repository.CustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CustomerKeyFilterTest {
+
+  private static final int INSERTIONS = 100_000;
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  private CustomerKeyFilter customerKeyFilter;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    customerKeyFilter = new CustomerKeyFilter();
+    customerKeyFilter.customerRepository = customerRepository;
+    customerKeyFilter.meterRegistry = meterRegistry;
+    customerKeyFilter.enabled = true;
+    customerKeyFilter.expectedInsertions = 1_000;
+    customerKeyFilter.falsePositiveProbability = 0.01;
+    customerKeyFilter.init();
+  }
+
+  @Test
+  @DisplayName("Test filtro de datos - sin construir siempre consulta la base")
+  public void testMightContainAnyBeforeBuild() {
+    assertTrue(customerKeyFilter.mightContainAny(List.of("nuevo@example.com"),
+        List.of("12345678")));
+    assertTrue(Double.isNaN(fpp("email")));
+  }
+
+  @Test
+  @DisplayName("Test filtro de datos - reconstruido desde la base y actualizado al registrar")
+  public void testRebuildAndAdd() {
+    given(customerRepository.count()).willReturn(1L);
+    given(customerRepository.streamKeys()).willReturn(
+        Stream.of(keys("registrado@example.com", "87654321")));
+
+    customerKeyFilter.rebuild();
+    customerKeyFilter.add("nuevo@example.com", "12345678");
+
+    assertTrue(customerKeyFilter.mightContainAny(List.of("registrado@example.com"), List.of()));
+    assertTrue(customerKeyFilter.mightContainAny(List.of(), List.of("12345678")));
+    assertFalse(customerKeyFilter.mightContainAny(List.of("otro@example.com"),
+        List.of("11111111")));
+    assertEquals(1, meterRegistry.counter(CustomerKeyFilter.CHECKS_METRIC, "result", "absent")
+        .count());
+    assertTrue(fpp("dni") < 0.01);
+  }
+
+  @Test
+  @DisplayName("Test filtro de Bloom - sin falsos negativos y falsos positivos cerca del objetivo")
+  public void testBloomFilterFalsePositiveRate() {
+    BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+    for (int i = 0; i < INSERTIONS; i++) {
+      filter.put("cliente" + i + "@example.com");
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < INSERTIONS; i++) {
+      assertTrue(filter.mightContain("cliente" + i + "@example.com"));
+      if (filter.mightContain("otro" + i + "@example.com")) {
+        falsePositives++;
+      }
+    }
+
+    double observed = (double) falsePositives / INSERTIONS;
+    assertTrue(observed < 0.015, "falsos positivos: " + observed);
+    assertEquals(0.01, filter.expectedFalsePositiveProbability(), 0.002);
+  }
+
+  private double fpp(String key) {
+    return meterRegistry.get(CustomerKeyFilter.FPP_METRIC).tag("key", key).gauge().value();
+  }
+
+  private static CustomerKeys keys(String email, String dni) {
+    return new CustomerKeys() {
+      @Override
+      public String getEmail() {
+        return email;
+      }
+
+      @Override
+      public String getDni() {
+        return dni;
+      }
+    };
+  }
+}
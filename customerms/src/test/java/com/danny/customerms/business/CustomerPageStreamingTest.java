@@ -0,0 +1,88 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.danny.customerms.model.CustomerResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "eureka.client.enabled=false")
+public class CustomerPageStreamingTest {
+
+  private static final int DATASET_SIZE = 1_200;
+
+  @Autowired
+  private CustomerService customerService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  public void setUp() {
+    List<Object[]> rows = new ArrayList<>(DATASET_SIZE);
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      rows.add(new Object[]{UUID.randomUUID(), "Nombre" + i, "Apellido" + i,
+          String.format("%08d", i), "cliente" + i + "@example.com"});
+    }
+    jdbcTemplate.batchUpdate(
+        "insert into customer (id, nombre, apellido, dni, email) values (?, ?, ?, ?, ?)", rows);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.update("delete from customer");
+  }
+
+  @Test
+  @DisplayName("Test pagina en streaming - mismo contenido y cursor que la pagina en lista")
+  public void testStreamedPageMatchesListedPage() throws IOException {
+    CustomerPage listed = customerService.getCustomers(500, 100, null);
+
+    CustomerPage info = customerService.getCustomerPageInfo(500, 100, null);
+    List<CustomerResponse> streamed = write(500, 100, null);
+
+    assertEquals(ids(listed.getCustomers()), ids(streamed));
+    assertEquals(listed.getNextCursor(), info.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("Test pagina en streaming - continua desde el cursor y termina en la ultima pagina")
+  public void testStreamedPageFromCursor() throws IOException {
+    CustomerPage first = customerService.getCustomers(1_000, 0, null);
+
+    CustomerPage info = customerService.getCustomerPageInfo(1_000, 0, first.getNextCursor());
+    List<CustomerResponse> streamed = write(1_000, 0, first.getNextCursor());
+
+    assertEquals(DATASET_SIZE - 1_000, streamed.size());
+    assertEquals(ids(customerService.getCustomers(1_000, 0, first.getNextCursor())
+        .getCustomers()), ids(streamed));
+    assertNull(info.getNextCursor());
+  }
+
+  private List<CustomerResponse> write(int limit, int offset, String after) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    customerService.writeCustomers(limit, offset, after, output);
+    return objectMapper.readValue(output.toByteArray(), new TypeReference<>() {
+    });
+  }
+
+  private static List<UUID> ids(List<CustomerResponse> customers) {
+    return customers.stream().map(CustomerResponse::getId).toList();
+  }
+}
@@ -0,0 +1,121 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.danny.customerms.clients.AccountClient;
+import com.danny.customerms.exception.ConflictException;
+import com.danny.customerms.exception.PreconditionFailedException;
+import com.danny.customerms.model.CustomerPatchRequest;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Cuenta las sentencias JDBC de una actualizacion completa y de una parcial con las estadisticas
+ * de Hibernate.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+public class CustomerPatchTest {
+
+  private static final Logger log = LoggerFactory.getLogger(CustomerPatchTest.class);
+
+  @Autowired
+  private CustomerService customerService;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private AccountClient accountClient;
+
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.update("delete from customer");
+  }
+
+  @Test
+  @DisplayName("Test actualizar parcialmente - una sola sentencia")
+  public void testPatchUsesSingleStatement() {
+    UUID id = createCustomer("12345678", "john@example.com").getId();
+    customerService.getCustomerDetails(id);
+
+    CustomerRequest update = new CustomerRequest();
+    update.setNombre("Juan");
+    long updateStatements = countStatements(() -> customerService.updateCustomer(id, update, null));
+    Long version = customerService.getCustomerVersion(id);
+
+    CustomerPatchRequest patch = new CustomerPatchRequest();
+    patch.setApellido("Vera");
+    CustomerResponse patched = customerService.patchCustomer(id, patch, version);
+    long patchStatements = countStatements(
+        () -> customerService.patchCustomer(id, nombre("Danny"), version + 1));
+
+    log.info("Sentencias por actualizacion: PUT {}, PATCH {}", updateStatements, patchStatements);
+    assertEquals(1, patchStatements);
+    assertTrue(patchStatements < updateStatements);
+    assertEquals("Vera", patched.getApellido());
+    assertEquals(version + 1, patched.getVersion());
+    CustomerResponse stored = customerService.getCustomerDetails(id);
+    assertEquals("Danny", stored.getNombre());
+    assertEquals("Vera", stored.getApellido());
+    assertEquals(version + 2, stored.getVersion());
+    assertEquals(List.of(id), customerService.searchCustomers("dan", 20, 0).getContent().stream()
+        .map(CustomerResponse::getId).toList());
+  }
+
+  @Test
+  @DisplayName("Test actualizar parcialmente - version distinta y DNI repetido")
+  public void testPatchConflicts() {
+    UUID id = createCustomer("12345678", "john@example.com").getId();
+    createCustomer("87654321", "jane@example.com");
+    Long version = customerService.getCustomerVersion(id);
+
+    assertThrows(PreconditionFailedException.class,
+        () -> customerService.patchCustomer(id, nombre("Danny"), version + 1));
+    CustomerPatchRequest dni = new CustomerPatchRequest();
+    dni.setDni("87654321");
+    assertThrows(ConflictException.class, () -> customerService.patchCustomer(id, dni, null));
+    assertEquals(version, customerService.getCustomerVersion(id));
+  }
+
+  private long countStatements(Supplier<CustomerResponse> update) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    update.get();
+    return statistics.getPrepareStatementCount();
+  }
+
+  private CustomerResponse createCustomer(String dni, String email) {
+    CustomerRequest request = new CustomerRequest();
+    request.setNombre("John");
+    request.setApellido("Doe");
+    request.setDni(dni);
+    request.setEmail(email);
+    return customerService.createCustomer(request);
+  }
+
+  private static CustomerPatchRequest nombre(String nombre) {
+    CustomerPatchRequest patch = new CustomerPatchRequest();
+    patch.setNombre(nombre);
+    return patch;
+  }
+}
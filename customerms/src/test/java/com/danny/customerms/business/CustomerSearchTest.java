@@ -0,0 +1,92 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.danny.customerms.clients.AccountClient;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "eureka.client.enabled=false")
+public class CustomerSearchTest {
+
+  @Autowired
+  private CustomerService customerService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private AccountClient accountClient;
+
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.update("delete from customer");
+  }
+
+  @Test
+  @DisplayName("Test buscar - sin distinguir mayusculas ni tildes")
+  public void testSearchIgnoresCaseAndAccents() {
+    createCustomer("Ángel", "Núñez", "11111111", "angel@example.com");
+
+    assertEquals(List.of("Núñez"), apellidos(customerService.searchCustomers("NUNEZ", 20, 0)));
+    assertEquals(List.of("Núñez"), apellidos(customerService.searchCustomers("ángel", 20, 0)));
+    assertEquals(List.of("Núñez"), apellidos(customerService.searchCustomers("1111", 20, 0)));
+    assertEquals(List.of("Núñez"),
+        apellidos(customerService.searchCustomers("Angel@Example", 20, 0)));
+  }
+
+  @Test
+  @DisplayName("Test buscar - apellido antes que nombre y paginas")
+  public void testSearchRanksAndPaginates() {
+    createCustomer("Vera", "Diaz", "11111111", "diaz@example.com");
+    createCustomer("Luis", "Vera", "22222222", "luis@example.com");
+    createCustomer("Ana", "Veramendi", "33333333", "ana@example.com");
+
+    Slice<CustomerResponse> first = customerService.searchCustomers("vera", 2, 0);
+    Slice<CustomerResponse> second = customerService.searchCustomers("vera", 2, 2);
+
+    assertEquals(List.of("Vera", "Veramendi"), apellidos(first));
+    assertTrue(first.hasNext());
+    assertEquals(List.of("Diaz"), apellidos(second));
+    assertFalse(second.hasNext());
+  }
+
+  @Test
+  @DisplayName("Test buscar - actualizar mantiene las columnas de busqueda")
+  public void testUpdateKeepsSearchColumnsCurrent() {
+    CustomerResponse created = createCustomer("Luis", "Vera", "22222222", "luis@example.com");
+    CustomerRequest update = new CustomerRequest();
+    update.setApellido("Palomino");
+
+    customerService.updateCustomer(created.getId(), update, null);
+
+    assertTrue(customerService.searchCustomers("vera", 20, 0).getContent().isEmpty());
+    assertEquals(List.of("Palomino"),
+        apellidos(customerService.searchCustomers("palo", 20, 0)));
+  }
+
+  private CustomerResponse createCustomer(String nombre, String apellido, String dni,
+      String email) {
+    CustomerRequest request = new CustomerRequest();
+    request.setNombre(nombre);
+    request.setApellido(apellido);
+    request.setDni(dni);
+    request.setEmail(email);
+    return customerService.createCustomer(request);
+  }
+
+  private static List<String> apellidos(Slice<CustomerResponse> results) {
+    return results.getContent().stream().map(CustomerResponse::getApellido).toList();
+  }
+}
@@ -0,0 +1,878 @@
+package com.danny.customerms.business;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.danny.customerms.clients.AccountClient;
+import com.danny.customerms.config.CacheConfig;
+import com.danny.customerms.datasource.ReadYourWrites;
+import com.danny.customerms.exception.AccountDeletionException;
+import com.danny.customerms.exception.BadPetitionException;
+import com.danny.customerms.exception.ConflictException;
+import com.danny.customerms.exception.NotFoundException;
+import com.danny.customerms.exception.PreconditionFailedException;
+import com.danny.customerms.model.AccountResponse;
+import com.danny.customerms.model.Customer;
+import com.danny.customerms.model.CustomerBatchGetResponse;
+import com.danny.customerms.model.CustomerBulkResponse;
+import com.danny.customerms.model.CustomerBulkResult.StatusEnum;
+import com.danny.customerms.model.CustomerPatchRequest;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import com.danny.customerms.model.ModelApiResponse;
+import com.danny.customerms.repository.CustomerKeys;
+import com.danny.customerms.repository.CustomerRepository;
+import com.danny.customerms.repository.CustomerView;
+import com.danny.customerms.repository.OffsetPageRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class CustomerServiceImplTest {
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Spy
+  private CustomerMapper customerMapper;
+
+  @Mock
+  private AccountClient accountClient;
+
+  @Mock
+  private ApproximateCustomerCount approximateCustomerCount;
+
+  @Spy
+  private CustomerValidator customerValidator;
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @Mock
+  private CacheManager cacheManager;
+
+  @Mock
+  private CustomerDetailsLoader customerDetailsLoader;
+
+  @Spy
+  private CustomerKeyFilter customerKeyFilter = new CustomerKeyFilter();
+
+  @Spy
+  private ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(5));
+
+  @Mock
+  private EntityManager entityManager;
+
+  @InjectMocks
+  private CustomerServiceImpl customerService;
+
+  private Customer customer;
+  private CustomerView customerView;
+  private CustomerRequest customerRequest;
+  private CustomerResponse customerResponse;
+  private ExecutorService accountExecutor;
+
+  @BeforeEach
+  public void setUp() {
+    customerRequest = createCustomerRequest();
+    customer = createCustomer(customerRequest);
+    customerResponse = createCustomerResponse(customer);
+    customerView = new CustomerView(customer.getId(), customer.getNombre(),
+        customer.getApellido(), customer.getDni(), customer.getEmail(), customer.getVersion());
+    accountExecutor = Executors.newFixedThreadPool(4);
+    ReflectionTestUtils.setField(customerService, "accountExecutor",
+        new TaskExecutorAdapter(accountExecutor));
+    ReflectionTestUtils.setField(customerService, "accountDeleteTimeout", Duration.ofSeconds(2));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    accountExecutor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Test crear cliente")
+  public void testCreateCustomer() {
+    given(customerRepository.saveAndFlush(any(Customer.class))).willReturn(customer);
+
+    CustomerResponse response = customerService.createCustomer(customerRequest);
+    assertNotNull(response);
+  }
+
+  @Test
+  @DisplayName("Test crear cliente - Arroja error cuando el email ya está registrado")
+  public void testCreateCustomer_ThrowsErrorWhenEmailExists() {
+    given(customerRepository.saveAndFlush(any(Customer.class))).willThrow(emailViolation());
+
+    ConflictException exception = assertThrows(ConflictException.class,
+        () -> customerService.createCustomer(customerRequest));
+
+    assertEquals("Email ya registrado", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test crear cliente - Arroja error cuando el DNI ya está registrado")
+  public void testCreateCustomer_ThrowsErrorWhenDniExists() {
+    given(customerRepository.saveAndFlush(any(Customer.class))).willThrow(dniViolation());
+
+    ConflictException exception = assertThrows(ConflictException.class,
+        () -> customerService.createCustomer(customerRequest));
+
+    assertEquals("DNI ya registrado", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test crear clientes en lote - resultado por elemento")
+  public void testCreateCustomers() {
+    ReflectionTestUtils.setField(customerService, "bulkChunkSize", 500);
+    CustomerRequest registeredDni = createCustomerRequest();
+    registeredDni.setEmail("otro@example.com");
+    registeredDni.setDni("87654321");
+    CustomerRequest repeatedEmail = createCustomerRequest();
+    repeatedEmail.setDni("11111111");
+    CustomerRequest invalidDni = createCustomerRequest();
+    invalidDni.setEmail("invalido@example.com");
+    invalidDni.setDni("123");
+    CustomerRequest valid = createCustomerRequest();
+    valid.setEmail("nuevo@example.com");
+    valid.setDni("22222222");
+
+    given(customerRepository.findByEmailInOrDniIn(anyList(), anyList())).willReturn(
+        List.of(createCustomerKeys("registrado@example.com", "87654321")));
+    given(customerRepository.saveAll(anyList())).willAnswer(
+        invocation -> invocation.getArgument(0));
+
+    CustomerBulkResponse response = customerService.createCustomers(
+        List.of(customerRequest, repeatedEmail, invalidDni, registeredDni, valid));
+
+    assertEquals(2, response.getCreated());
+    assertEquals(3, response.getFailed());
+    assertEquals(StatusEnum.CREATED, response.getResults().get(0).getStatus());
+    assertEquals(StatusEnum.CONFLICT, response.getResults().get(1).getStatus());
+    assertEquals("Email repetido en el lote", response.getResults().get(1).getMessage());
+    assertEquals(StatusEnum.INVALID, response.getResults().get(2).getStatus());
+    assertEquals(StatusEnum.CONFLICT, response.getResults().get(3).getStatus());
+    assertEquals("DNI ya registrado", response.getResults().get(3).getMessage());
+    assertEquals(StatusEnum.CREATED, response.getResults().get(4).getStatus());
+    assertEquals(4, response.getResults().get(4).getIndex());
+  }
+
+  @Test
+  @DisplayName("Test crear clientes en lote - uno por uno tras un dato registrado en paralelo")
+  public void testCreateCustomersRetriesOneByOne() {
+    ReflectionTestUtils.setField(customerService, "bulkChunkSize", 500);
+    CustomerRequest valid = createCustomerRequest();
+    valid.setEmail("nuevo@example.com");
+    valid.setDni("22222222");
+    given(customerRepository.saveAll(anyList())).willThrow(dniViolation());
+    given(customerRepository.saveAndFlush(any(Customer.class)))
+        .willThrow(dniViolation())
+        .willAnswer(invocation -> invocation.getArgument(0));
+
+    CustomerBulkResponse response = customerService.createCustomers(
+        List.of(customerRequest, valid));
+
+    assertEquals(1, response.getCreated());
+    assertEquals(StatusEnum.CONFLICT, response.getResults().get(0).getStatus());
+    assertEquals("DNI ya registrado", response.getResults().get(0).getMessage());
+    assertEquals(StatusEnum.CREATED, response.getResults().get(1).getStatus());
+  }
+
+  @Test
+  @DisplayName("Test crear clientes en lote - otra restriccion violada no se informa como DNI")
+  public void testCreateCustomersRethrowsOtherViolations() {
+    ReflectionTestUtils.setField(customerService, "bulkChunkSize", 500);
+    DataIntegrityViolationException notNull = new DataIntegrityViolationException(
+        "NULL not allowed for column \"NOMBRE\"");
+    given(customerRepository.saveAll(anyList())).willThrow(notNull);
+    given(customerRepository.saveAndFlush(any(Customer.class))).willThrow(notNull);
+
+    assertThrows(DataIntegrityViolationException.class,
+        () -> customerService.createCustomers(List.of(customerRequest)));
+  }
+
+  @Test
+  @DisplayName("Test crear clientes en lote - el filtro descarta los datos y no se consulta")
+  public void testCreateCustomersSkipsLookupWhenFilterRulesOutKeys() {
+    ReflectionTestUtils.setField(customerService, "bulkChunkSize", 500);
+    doReturn(false).when(customerKeyFilter).mightContainAny(anyList(), anyList());
+    given(customerRepository.saveAll(anyList())).willAnswer(
+        invocation -> invocation.getArgument(0));
+
+    CustomerBulkResponse response = customerService.createCustomers(List.of(customerRequest));
+
+    assertEquals(1, response.getCreated());
+    verify(customerRepository, never()).findByEmailInOrDniIn(anyList(), anyList());
+    verify(customerKeyFilter).add(customerRequest.getEmail(), customerRequest.getDni());
+  }
+
+  @Test
+  @DisplayName("Test crear cliente - Arroja error con todos los campos invalidos")
+  public void testCreateCustomer_ThrowsErrorWithAllInvalidFields() {
+    customerRequest.setNombre(" ");
+    customerRequest.setEmail("no-es-email");
+
+    BadPetitionException exception = assertThrows(BadPetitionException.class,
+        () -> customerService.createCustomer(customerRequest));
+
+    assertEquals("Proporcione un nombre, Email invalido", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test obtener detalles del cliente")
+  public void testGetCustomerDetails() {
+    given(customerDetailsLoader.load(customer.getId())).willReturn(Optional.of(customerView));
+
+    CustomerResponse response = customerService.getCustomerDetails(customer.getId());
+
+    assertNotNull(response);
+    assertEquals(customerResponse, response);
+    verify(customerRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("Test obtener detalles del cliente - Cliente no encontrado")
+  public void testGetCustomerDetails_ThrowsErrorWhenCustomerNotFound() {
+    given(customerDetailsLoader.load(customer.getId())).willReturn(Optional.empty());
+
+    NotFoundException exception = assertThrows(NotFoundException.class,
+        () -> customerService.getCustomerDetails(customer.getId()));
+
+    assertEquals("Cliente no encontrado", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test obtener clientes por ids - cache, consultas IN por bloques y faltantes")
+  public void testGetCustomersByIds() {
+    ReflectionTestUtils.setField(customerService, "batchGetChunkSize", 2);
+    Cache customers = new ConcurrentMapCache(CacheConfig.CUSTOMERS_CACHE);
+    given(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE)).willReturn(customers);
+    CustomerResponse cached = createCustomerResponse(createCustomer(createCustomerRequest()));
+    customers.put(cached.getId(), cached);
+    UUID missingA = UUID.randomUUID();
+    UUID missingB = UUID.randomUUID();
+    given(customerRepository.findViewsByIdIn(List.of(missingA, customer.getId()))).willReturn(
+        List.of(customerView));
+    given(customerRepository.findViewsByIdIn(List.of(missingB))).willReturn(List.of());
+
+    CustomerBatchGetResponse response = customerService.getCustomersByIds(List.of(missingA,
+        cached.getId(), customer.getId(), missingA, missingB));
+
+    assertEquals(List.of(cached, customerResponse), response.getCustomers());
+    assertEquals(List.of(missingA, missingB), response.getMissing());
+    assertEquals(customerResponse, customers.get(customer.getId(), CustomerResponse.class));
+    verify(customerRepository, never()).findViewById(any());
+    verify(readYourWrites).read(eq(List.of(missingA, customer.getId(), missingB)), any());
+  }
+
+  @Test
+  @DisplayName("Test crear clientes en lote - mas clientes que el maximo del contrato")
+  public void testCreateCustomersRejectsOversizedBulk() {
+    List<CustomerRequest> bulk = Collections.nCopies(CustomerServiceImpl.MAX_BULK_SIZE + 1,
+        customerRequest);
+
+    BadPetitionException exception = assertThrows(BadPetitionException.class,
+        () -> customerService.createCustomers(bulk));
+
+    assertEquals("El lote debe tener entre 1 y 5000 clientes", exception.getMessage());
+    verify(customerRepository, never()).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("Test obtener clientes por ids - lista vacia")
+  public void testGetCustomersByIdsRequiresIds() {
+    BadPetitionException exception = assertThrows(BadPetitionException.class,
+        () -> customerService.getCustomersByIds(List.of()));
+
+    assertEquals("Debe indicar los ids a buscar", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test obtener clientes por ids - mas ids que el maximo del contrato")
+  public void testGetCustomersByIdsRejectsTooManyIds() {
+    List<UUID> ids = Collections.nCopies(CustomerServiceImpl.MAX_BATCH_GET_IDS + 1,
+        customer.getId());
+
+    BadPetitionException exception = assertThrows(BadPetitionException.class,
+        () -> customerService.getCustomersByIds(ids));
+
+    assertEquals("Se pueden buscar como maximo 1000 ids por peticion", exception.getMessage());
+    verify(customerRepository, never()).findViewsByIdIn(anyList());
+  }
+
+  @Test
+  @DisplayName("Test buscar clientes - apellido antes que nombre y sin repetidos")
+  public void testSearchCustomersMergesColumnsByRank() {
+    Customer byNombre = createCustomer(createCustomerRequest());
+    given(customerRepository.findByApellidoNormStartingWithOrderByApellidoNormAscIdAsc(
+        "do", PageRequest.of(0, 3))).willReturn(List.of(customer));
+    given(customerRepository.findByNombreNormStartingWithOrderByNombreNormAscIdAsc(
+        "do", PageRequest.of(0, 3))).willReturn(List.of(byNombre, customer));
+    given(customerRepository.findByEmailNormStartingWithOrderByEmailNormAscIdAsc(
+        "do", PageRequest.of(0, 3))).willReturn(List.of());
+
+    Slice<CustomerResponse> results = customerService.searchCustomers(" DÓ ", 2, 0);
+
+    assertEquals(List.of(customer.getId(), byNombre.getId()),
+        results.getContent().stream().map(CustomerResponse::getId).toList());
+    assertFalse(results.hasNext());
+  }
+
+  @Test
+  @DisplayName("Test buscar clientes - solo digitos busca por DNI")
+  public void testSearchCustomersByDniPrefix() {
+    given(customerRepository.findByDniStartingWithOrderByDniAscIdAsc("1234",
+        PageRequest.of(0, 22))).willReturn(List.of(customer));
+
+    Slice<CustomerResponse> results = customerService.searchCustomers("1234", 20, 1);
+
+    assertTrue(results.getContent().isEmpty());
+    verify(customerRepository, never()).findByApellidoNormStartingWithOrderByApellidoNormAscIdAsc(
+        any(), any());
+  }
+
+  @Test
+  @DisplayName("Test buscar clientes - texto vacio")
+  public void testSearchCustomersRequiresQuery() {
+    BadPetitionException exception = assertThrows(BadPetitionException.class,
+        () -> customerService.searchCustomers("  ", 20, 0));
+
+    assertEquals("Debe indicar el texto a buscar", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test buscar clientes - limit y offset fuera del contrato")
+  public void testSearchCustomersRejectsUnboundedPages() {
+    assertThrows(BadPetitionException.class, () -> customerService.searchCustomers("vera",
+        CustomerServiceImpl.MAX_SEARCH_LIMIT + 1, 0));
+    assertThrows(BadPetitionException.class, () -> customerService.searchCustomers("vera", 20,
+        Integer.MAX_VALUE));
+    assertThrows(BadPetitionException.class, () -> customerService.searchCustomers(
+        "v".repeat(CustomerServiceImpl.MAX_SEARCH_QUERY_LENGTH + 1), 20, 0));
+
+    verify(customerRepository, never()).findByApellidoNormStartingWithOrderByApellidoNormAscIdAsc(
+        any(), any());
+  }
+
+  @Test
+  @DisplayName("Test listar clientes")
+  public void testGetCustomers() {
+    List<CustomerView> customerList = List.of(customerView);
+
+    given(customerRepository.findViewsOrderById(new OffsetPageRequest(0, 20))).willReturn(
+        new SliceImpl<>(customerList));
+    given(approximateCustomerCount.get()).willReturn(1L);
+
+    CustomerPage page = customerService.getCustomers(20, 0, null);
+
+    assertNotNull(page.getCustomers());
+    assertEquals(1, page.getCustomers().size());
+    assertEquals(customerResponse, page.getCustomers().get(0));
+    assertNull(page.getNextCursor());
+    assertEquals(1L, page.getApproximateTotal());
+  }
+
+  @Test
+  @DisplayName("Test listar clientes - límite negativo")
+  public void testGetCustomersWithNegativeLimit() {
+    List<CustomerView> customerList = List.of(customerView);
+
+    given(customerRepository.findViewsOrderById(new OffsetPageRequest(0, 20))).willReturn(
+        new SliceImpl<>(customerList));
+    given(customerMapper.getCustomerResponseFromView(customerView)).willReturn(customerResponse);
+
+    CustomerPage page = customerService.getCustomers(-5, 0, null);
+
+    assertNotNull(page.getCustomers());
+    assertEquals(1, page.getCustomers().size());
+    assertEquals(customerResponse, page.getCustomers().get(0));
+  }
+
+  @Test
+  @DisplayName("Test listar clientes - el offset es un numero de registro")
+  public void testGetCustomersUsesRowOffset() {
+    given(customerRepository.findViewsOrderById(new OffsetPageRequest(30, 20))).willReturn(
+        new SliceImpl<>(List.of(customerView), new OffsetPageRequest(30, 20), true));
+
+    CustomerPage page = customerService.getCustomers(20, 30, null);
+
+    assertEquals(1, page.getCustomers().size());
+    assertEquals(CustomerCursor.encode(customer.getId()), page.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("Test listar clientes - continua desde el cursor")
+  public void testGetCustomersAfterCursor() {
+    UUID lastSeen = UUID.randomUUID();
+    given(customerRepository.findViewsAfterOrderById(lastSeen,
+        PageRequest.of(0, 20))).willReturn(new SliceImpl<>(List.of(customerView)));
+
+    CustomerPage page = customerService.getCustomers(20, 500,
+        CustomerCursor.encode(lastSeen));
+
+    assertEquals(1, page.getCustomers().size());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("Test listar clientes - cursor invalido")
+  public void testGetCustomersWithInvalidCursor() {
+    BadPetitionException exception = assertThrows(BadPetitionException.class,
+        () -> customerService.getCustomers(20, 0, "no-es-un-cursor"));
+
+    assertEquals("Cursor invalido", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test actualizar cliente")
+  public void testUpdateCustomer() {
+    given(customerRepository.findById(customer.getId())).willReturn(Optional.of(customer));
+    given(customerRepository.saveAndFlush(customer)).willReturn(customer);
+
+    CustomerResponse response = customerService.updateCustomer(customer.getId(), customerRequest,
+        null);
+
+    assertNotNull(response);
+    assertEquals(customerResponse, response);
+  }
+
+  @Test
+  @DisplayName("Test actualizar cliente - cliente no encontrado")
+  public void testUpdateCustomerNotFound() {
+    UUID id = UUID.randomUUID();
+    given(customerRepository.findById(id)).willReturn(Optional.empty());
+
+    NotFoundException exception = assertThrows(NotFoundException.class, () -> {
+      customerService.updateCustomer(id, customerRequest, null);
+    });
+
+    assertEquals("Not found", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test actualizar cliente - email ya registrado")
+  public void testUpdateCustomerEmailConflict() {
+    customerRequest.setEmail("newemail@example.com");
+    given(customerRepository.findById(customer.getId())).willReturn(Optional.of(customer));
+    given(customerRepository.saveAndFlush(customer)).willThrow(emailViolation());
+
+    BadPetitionException exception = assertThrows(BadPetitionException.class, () -> {
+      customerService.updateCustomer(customer.getId(), customerRequest, null);
+    });
+
+    assertEquals("Email ya registrado en otro usuario", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test actualizar cliente - DNI ya registrado")
+  public void testUpdateCustomerDniConflict() {
+    customerRequest.setDni("87654321");
+    given(customerRepository.findById(customer.getId())).willReturn(Optional.of(customer));
+    given(customerRepository.saveAndFlush(customer)).willThrow(dniViolation());
+
+    BadPetitionException exception = assertThrows(BadPetitionException.class, () -> {
+      customerService.updateCustomer(customer.getId(), customerRequest, null);
+    });
+
+    assertEquals("DNI ya registrado en otro usuario", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test actualizar cliente - If-Match con otra version")
+  public void testUpdateCustomerVersionMismatch() {
+    customer.setVersion(2L);
+    given(customerRepository.findById(customer.getId())).willReturn(Optional.of(customer));
+
+    assertThrows(PreconditionFailedException.class,
+        () -> customerService.updateCustomer(customer.getId(), customerRequest, 1L));
+
+    verify(customerRepository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  @DisplayName("Test actualizar cliente - modificado entre la lectura y la escritura")
+  public void testUpdateCustomerConcurrentModification() {
+    customer.setVersion(1L);
+    given(customerRepository.findById(customer.getId())).willReturn(Optional.of(customer));
+    given(customerRepository.saveAndFlush(customer)).willThrow(
+        new ObjectOptimisticLockingFailureException(Customer.class, customer.getId()));
+
+    assertThrows(PreconditionFailedException.class,
+        () -> customerService.updateCustomer(customer.getId(), customerRequest, 1L));
+    assertThrows(ConflictException.class,
+        () -> customerService.updateCustomer(customer.getId(), customerRequest, null));
+  }
+
+  @Test
+  @DisplayName("Test version del cliente - desde la cache o solo la columna version")
+  public void testGetCustomerVersion() {
+    Cache customers = new ConcurrentMapCache(CacheConfig.CUSTOMERS_CACHE);
+    given(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE)).willReturn(customers);
+    given(customerRepository.findVersionById(customer.getId())).willReturn(Optional.of(4L));
+
+    assertEquals(4L, customerService.getCustomerVersion(customer.getId()));
+
+    customerResponse.setVersion(5L);
+    customers.put(customer.getId(), customerResponse);
+    assertEquals(5L, customerService.getCustomerVersion(customer.getId()));
+    verify(customerRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("Test actualizar parcialmente - version cacheada sin volver a leer")
+  public void testPatchCustomerUsesCachedVersion() {
+    Cache customers = new ConcurrentMapCache(CacheConfig.CUSTOMERS_CACHE);
+    customerResponse.setVersion(2L);
+    customers.put(customer.getId(), customerResponse);
+    CustomerPatchRequest patch = new CustomerPatchRequest();
+    patch.setNombre("Danny");
+    given(cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE)).willReturn(customers);
+    given(customerRepository.updateChangedColumns(customer.getId(), patch, 2L)).willReturn(1);
+
+    CustomerResponse response = customerService.patchCustomer(customer.getId(), patch, 2L);
+
+    assertEquals("Danny", response.getNombre());
+    assertEquals(customerResponse.getEmail(), response.getEmail());
+    assertEquals(3L, response.getVersion());
+    verify(customerRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("Test actualizar parcialmente - sin If-Match se lee el resultado")
+  public void testPatchCustomerWithoutVersion() {
+    CustomerPatchRequest patch = new CustomerPatchRequest();
+    patch.setApellido("Vera");
+    given(customerRepository.updateChangedColumns(customer.getId(), patch, null)).willReturn(1);
+    given(customerRepository.findById(customer.getId())).willReturn(Optional.of(customer));
+
+    CustomerResponse response = customerService.patchCustomer(customer.getId(), patch, null);
+
+    assertEquals(customerResponse, response);
+  }
+
+  @Test
+  @DisplayName("Test actualizar parcialmente - version distinta o cliente inexistente")
+  public void testPatchCustomerNoRowsUpdated() {
+    CustomerPatchRequest patch = new CustomerPatchRequest();
+    UUID missing = UUID.randomUUID();
+    given(customerRepository.updateChangedColumns(any(), any(), any())).willReturn(0);
+    given(customerRepository.findVersionById(customer.getId())).willReturn(Optional.of(5L));
+    given(customerRepository.findVersionById(missing)).willReturn(Optional.empty());
+
+    assertThrows(PreconditionFailedException.class,
+        () -> customerService.patchCustomer(customer.getId(), patch, 4L));
+    assertThrows(NotFoundException.class,
+        () -> customerService.patchCustomer(missing, patch, 4L));
+  }
+
+  @Test
+  @DisplayName("Test actualizar parcialmente - email ya registrado")
+  public void testPatchCustomerEmailConflict() {
+    CustomerPatchRequest patch = new CustomerPatchRequest();
+    patch.setEmail("otro@example.com");
+    given(customerRepository.updateChangedColumns(customer.getId(), patch, null)).willThrow(
+        emailViolation());
+
+    ConflictException exception = assertThrows(ConflictException.class,
+        () -> customerService.patchCustomer(customer.getId(), patch, null));
+
+    assertEquals("Email ya registrado en otro usuario", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test actualizar cliente - éxito con cambios")
+  public void testUpdateCustomerChangeNombre() {
+    customerRequest.setNombre("Danny");
+    customerRequest.setApellido("NTT");
+    customerRequest.setEmail("ntt@example.com");
+    customerResponse.setDni("77020212");
+
+    given(customerRepository.findById(customer.getId())).willReturn(Optional.of(customer));
+    given(customerRepository.saveAndFlush(customer)).willReturn(customer);
+    given(customerMapper.getCustomerResponseFromCustomer(customer)).willReturn(customerResponse);
+
+    CustomerResponse response = customerService.updateCustomer(customer.getId(), customerRequest,
+        null);
+
+    assertNotNull(response);
+    assertEquals(customerResponse, response);
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente con cuentas activas - debería lanzar excepción")
+  public void testDeleteCustomerWithActiveAccounts() {
+    given(customerRepository.existsById(customer.getId())).willReturn(true);
+    given(accountClient.getAccountsByClientId(customer.getId())).willReturn(
+        List.of(createAccountResponse(100.0)));
+
+    BadPetitionException exception = assertThrows(BadPetitionException.class,
+        () -> customerService.deleteCustomer(customer.getId()));
+
+    assertEquals("Las cuentas bancarias deben tener un saldo igual a 0 para eliminar cliente",
+        exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente con cuentas con saldo 0 - No debería lanzar excepción")
+  public void testDeleteCustomerWithZeroBalanceAccounts() {
+    given(customerRepository.existsById(customer.getId())).willReturn(true);
+    given(accountClient.getAccountsByClientId(customer.getId())).willReturn(
+        List.of(createAccountResponse(0.0)));
+    doNothing().when(accountClient).DeleteAccount(any(UUID.class));
+
+    ModelApiResponse response = customerService.deleteCustomer(customer.getId());
+
+    assertNotNull(response);
+    assertEquals("Cliente borrado exitosamente", response.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente - usa la eliminacion en lote cuando ACCOUNTMS la ofrece")
+  public void testDeleteCustomerUsesBulkAccountDeletion() {
+    given(customerRepository.existsById(customer.getId())).willReturn(true);
+    given(accountClient.getAccountsByClientId(customer.getId())).willReturn(
+        List.of(createAccountResponse(0.0), createAccountResponse(0.0)));
+    given(accountClient.deleteAccountsByClientId(customer.getId())).willReturn(true);
+
+    ModelApiResponse response = customerService.deleteCustomer(customer.getId());
+
+    assertEquals("Cliente borrado exitosamente", response.getMessage());
+    verify(accountClient, never()).DeleteAccount(any(UUID.class));
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente - las cuentas se eliminan en paralelo")
+  public void testDeleteCustomerDeletesAccountsConcurrently() {
+    List<AccountResponse> accounts = List.of(createAccountResponse(0.0),
+        createAccountResponse(0.0), createAccountResponse(0.0), createAccountResponse(0.0));
+    CountDownLatch allInFlight = new CountDownLatch(accounts.size());
+    given(customerRepository.existsById(customer.getId())).willReturn(true);
+    given(accountClient.getAccountsByClientId(customer.getId())).willReturn(accounts);
+    doAnswer(invocation -> {
+      allInFlight.countDown();
+      if (!allInFlight.await(1, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("Las cuentas se eliminaron una por una");
+      }
+      return null;
+    }).when(accountClient).DeleteAccount(any(UUID.class));
+
+    ModelApiResponse response = customerService.deleteCustomer(customer.getId());
+
+    assertEquals("Cliente borrado exitosamente", response.getMessage());
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente - informa las cuentas que no se pudieron eliminar")
+  public void testDeleteCustomerReportsFailedAccounts() {
+    AccountResponse deleted = createAccountResponse(0.0);
+    AccountResponse failed = createAccountResponse(0.0);
+    given(customerRepository.existsById(customer.getId())).willReturn(true);
+    given(accountClient.getAccountsByClientId(customer.getId())).willReturn(
+        List.of(deleted, failed));
+    doNothing().when(accountClient).DeleteAccount(deleted.getId());
+    doThrow(new RuntimeException("Error inesperado")).when(accountClient)
+        .DeleteAccount(failed.getId());
+
+    AccountDeletionException exception = assertThrows(AccountDeletionException.class,
+        () -> customerService.deleteCustomer(customer.getId()));
+
+    assertEquals(List.of(failed.getId()), exception.getFailedAccounts());
+    verify(accountClient).DeleteAccount(deleted.getId());
+    verify(customerRepository, never()).deleteById(customer.getId());
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente - cancela las eliminaciones que no terminan a tiempo")
+  public void testDeleteCustomerCancelsTimedOutAccountDeletions() throws InterruptedException {
+    AccountResponse slow = createAccountResponse(0.0);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    ReflectionTestUtils.setField(customerService, "accountDeleteTimeout", Duration.ofMillis(100));
+    given(customerRepository.existsById(customer.getId())).willReturn(true);
+    given(accountClient.getAccountsByClientId(customer.getId())).willReturn(List.of(slow));
+    doAnswer(invocation -> {
+      try {
+        new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return null;
+    }).when(accountClient).DeleteAccount(slow.getId());
+
+    AccountDeletionException exception = assertThrows(AccountDeletionException.class,
+        () -> customerService.deleteCustomer(customer.getId()));
+
+    assertEquals(List.of(slow.getId()), exception.getFailedAccounts());
+    assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    verify(customerRepository, never()).deleteById(customer.getId());
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente - al vencer el plazo se cancelan tambien las encoladas")
+  public void testDeleteCustomerCancelsQueuedAccountDeletions() throws InterruptedException {
+    AccountResponse slow = createAccountResponse(0.0);
+    AccountResponse queued = createAccountResponse(0.0);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    ExecutorService singleThread = Executors.newSingleThreadExecutor();
+    ReflectionTestUtils.setField(customerService, "accountExecutor",
+        new TaskExecutorAdapter(singleThread));
+    ReflectionTestUtils.setField(customerService, "accountDeleteTimeout", Duration.ofMillis(100));
+    given(customerRepository.existsById(customer.getId())).willReturn(true);
+    given(accountClient.getAccountsByClientId(customer.getId())).willReturn(
+        List.of(slow, queued));
+    doAnswer(invocation -> {
+      try {
+        new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return null;
+    }).when(accountClient).DeleteAccount(slow.getId());
+
+    try {
+      AccountDeletionException exception = assertThrows(AccountDeletionException.class,
+          () -> customerService.deleteCustomer(customer.getId()));
+
+      assertEquals(List.of(slow.getId(), queued.getId()), exception.getFailedAccounts());
+      assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+      singleThread.shutdown();
+      assertTrue(singleThread.awaitTermination(1, TimeUnit.SECONDS));
+      verify(accountClient, never()).DeleteAccount(queued.getId());
+    } finally {
+      singleThread.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Test eliminar cliente - las eliminaciones rechazadas por el pool se informan")
+  public void testDeleteCustomerReportsRejectedAccountDeletions() {
+    AccountResponse rejected = createAccountResponse(0.0);
+    accountExecutor.shutdown();
+    given(customerRepository.existsById(customer.getId())).willReturn(true);
+    given(accountClient.getAccountsByClientId(customer.getId())).willReturn(List.of(rejected));
+
+    AccountDeletionException exception = assertThrows(AccountDeletionException.class,
+        () -> customerService.deleteCustomer(customer.getId()));
+
+    assertEquals(List.of(rejected.getId()), exception.getFailedAccounts());
+    verify(accountClient, never()).DeleteAccount(rejected.getId());
+  }
+
+  @Test
+  @DisplayName("Test exportar clientes - un JSON por linea y entidades desacopladas")
+  public void testExportCustomers() {
+    Customer other = createCustomer(customerRequest);
+    given(customerRepository.streamAll()).willReturn(Stream.of(customer, other));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    customerService.exportCustomers(output);
+
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    assertTrue(lines[0].startsWith("{") && lines[0].contains(customer.getId().toString()));
+    assertTrue(lines[1].contains(other.getId().toString()));
+    verify(entityManager).detach(customer);
+    verify(entityManager).detach(other);
+  }
+
+  private CustomerRequest createCustomerRequest() {
+    CustomerRequest request = new CustomerRequest();
+    request.setEmail("test@example.com");
+    request.setDni("12345678");
+    request.setNombre("John");
+    request.setApellido("Doe");
+    return request;
+  }
+
+  private Customer createCustomer(CustomerRequest request) {
+    Customer customer = new Customer();
+    customer.setId(UUID.randomUUID());
+    customer.setEmail(request.getEmail());
+    customer.setDni(request.getDni());
+    customer.setNombre(request.getNombre());
+    customer.setApellido(request.getApellido());
+    return customer;
+  }
+
+  private CustomerResponse createCustomerResponse(Customer customer) {
+    CustomerResponse response = new CustomerResponse();
+    response.setId(customer.getId());
+    response.setEmail(customer.getEmail());
+    response.setDni(customer.getDni());
+    response.setNombre(customer.getNombre());
+    response.setApellido(customer.getApellido());
+    return response;
+  }
+
+  private DataIntegrityViolationException emailViolation() {
+    return new DataIntegrityViolationException(
+        "Unique index or primary key violation: \"PUBLIC.UK_CUSTOMER_EMAIL_INDEX_5 ON "
+            + "PUBLIC.CUSTOMER(EMAIL NULLS FIRST)\"");
+  }
+
+  private DataIntegrityViolationException dniViolation() {
+    return new DataIntegrityViolationException(
+        "Unique index or primary key violation: \"PUBLIC.UK_CUSTOMER_DNI_INDEX_5 ON "
+            + "PUBLIC.CUSTOMER(DNI NULLS FIRST)\"");
+  }
+
+  private CustomerKeys createCustomerKeys(String email, String dni) {
+    return new CustomerKeys() {
+      @Override
+      public String getEmail() {
+        return email;
+      }
+
+      @Override
+      public String getDni() {
+        return dni;
+      }
+    };
+  }
+
+  private AccountResponse createAccountResponse(double saldo) {
+    AccountResponse response = new AccountResponse();
+    response.setId(UUID.randomUUID());
+    response.setSaldo(saldo);
+    return response;
+  }
+}
@@ -0,0 +1,89 @@
+package com.danny.customerms.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.danny.customerms.business.CustomerService;
+import com.danny.customerms.model.CustomerRequest;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Compara la eliminacion en lote contra la eliminacion cuenta por cuenta usando un ACCOUNTMS
+ * local con latencia fija.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+public class AccountBulkDeleteTest {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountBulkDeleteTest.class);
+  private static final int ACCOUNTS = 20;
+  private static final AccountMsStub accountMs = AccountMsStub.start().withLatency(50);
+
+  @Autowired
+  private CustomerService customerService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @DynamicPropertySource
+  static void accountMsProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.cloud.discovery.client.simple.instances[ACCOUNTMS][0].uri",
+        accountMs::baseUrl);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    jdbcTemplate.update("delete from customer");
+    accountMs.reset();
+  }
+
+  @AfterAll
+  public static void stopAccountMs() {
+    accountMs.close();
+  }
+
+  @Test
+  @DisplayName("Test eliminar cuentas - en lote y con respaldo cuenta por cuenta")
+  public void testBatchedAndPerAccountDeletion() {
+    UUID batched = createCustomer("11111111");
+    accountMs.addAccounts(batched, ACCOUNTS, 0.0);
+    long start = System.nanoTime();
+    customerService.deleteCustomer(batched);
+    long batchedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertEquals(1, accountMs.bulkDeletes());
+    assertEquals(0, accountMs.singleDeletes());
+    assertEquals(0, accountMs.accountCount(batched));
+
+    accountMs.withBulkDeleteSupported(false);
+    UUID perAccount = createCustomer("22222222");
+    accountMs.addAccounts(perAccount, ACCOUNTS, 0.0);
+    start = System.nanoTime();
+    customerService.deleteCustomer(perAccount);
+    long perAccountMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertEquals(ACCOUNTS, accountMs.singleDeletes());
+    assertEquals(0, accountMs.accountCount(perAccount));
+    log.info("Eliminar {} cuentas: en lote {} ms, cuenta por cuenta {} ms", ACCOUNTS,
+        batchedMillis, perAccountMillis);
+  }
+
+  private UUID createCustomer(String dni) {
+    CustomerRequest request = new CustomerRequest();
+    request.setNombre("John");
+    request.setApellido("Doe");
+    request.setDni(dni);
+    request.setEmail("cliente" + dni + "@example.com");
+    return customerService.createCustomer(request).getId();
+  }
+}
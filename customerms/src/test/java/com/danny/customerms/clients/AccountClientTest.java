@@ -0,0 +1,133 @@
+package com.danny.customerms.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.danny.customerms.exception.ServiceUnavailableException;
+import com.danny.customerms.model.AccountResponse;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class AccountClientTest {
+
+  private static final int WINDOW = 4;
+
+  private FeignAccountClient feignAccountClient;
+  private CircuitBreaker circuitBreaker;
+  private SimpleMeterRegistry meterRegistry;
+  private AccountClient accountClient;
+
+  @BeforeEach
+  public void setUp() {
+    feignAccountClient = mock(FeignAccountClient.class);
+    circuitBreaker = CircuitBreaker.of("ACCOUNTMS", CircuitBreakerConfig.custom()
+        .slidingWindowSize(WINDOW)
+        .minimumNumberOfCalls(WINDOW)
+        .failureRateThreshold(50)
+        .waitDurationInOpenState(Duration.ofMinutes(1))
+        .build());
+    meterRegistry = new SimpleMeterRegistry();
+    accountClient = new AccountClient();
+    ReflectionTestUtils.setField(accountClient, "meterRegistry", meterRegistry);
+    ReflectionTestUtils.setField(accountClient, "feignAccountClient", feignAccountClient);
+    ReflectionTestUtils.setField(accountClient, "accountCircuitBreaker", circuitBreaker);
+    ReflectionTestUtils.setField(accountClient, "accountBulkhead", Bulkhead.of("ACCOUNTMS",
+        BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()));
+  }
+
+  @Test
+  @DisplayName("Test circuito abierto - falla de inmediato sin llamar a ACCOUNTMS")
+  public void testOpenCircuitFailsFast() {
+    UUID clientId = UUID.randomUUID();
+    when(feignAccountClient.getAccountsByClientId(any()))
+        .thenThrow(new IllegalStateException("timeout"));
+
+    for (int i = 0; i < WINDOW; i++) {
+      assertThrows(RuntimeException.class, () -> accountClient.getAccountsByClientId(clientId));
+    }
+
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+        () -> accountClient.getAccountsByClientId(clientId));
+    assertEquals(503, exception.getStatusCode());
+    verify(feignAccountClient, times(WINDOW)).getAccountsByClientId(clientId);
+    assertEquals(WINDOW, requests("ERROR"));
+    assertEquals(1, requests("REJECTED"));
+  }
+
+  @Test
+  @DisplayName("Test bulkhead lleno - rechaza la llamada sin esperar")
+  public void testFullBulkheadRejects() throws Exception {
+    UUID clientId = UUID.randomUUID();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(feignAccountClient.getAccountsByClientId(any())).thenAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return List.<AccountResponse>of();
+    });
+
+    CompletableFuture<List<AccountResponse>> blocked =
+        CompletableFuture.supplyAsync(() -> accountClient.getAccountsByClientId(clientId));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    assertThrows(ServiceUnavailableException.class,
+        () -> accountClient.getAccountsByClientId(clientId));
+    release.countDown();
+    assertTrue(blocked.get(5, TimeUnit.SECONDS).isEmpty());
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    assertEquals(1, requests("SUCCESS"));
+  }
+
+  @Test
+  @DisplayName("Test eliminar en lote no soportado - se vuelve a probar pasado el plazo")
+  public void testUnsupportedBulkDeleteIsProbedAgain() throws InterruptedException {
+    UUID clientId = UUID.randomUUID();
+    ReflectionTestUtils.setField(accountClient, "bulkDeleteEnabled", true);
+    ReflectionTestUtils.setField(accountClient, "bulkDeleteRetryAfter", Duration.ofMillis(200));
+    doThrow(new FeignException.NotFound("not found", Request.create(Request.HttpMethod.DELETE,
+        "/account", Map.of(), null, StandardCharsets.UTF_8, null), null, null))
+        .doNothing()
+        .when(feignAccountClient).deleteAccountsByClientId(clientId);
+
+    assertFalse(accountClient.deleteAccountsByClientId(clientId));
+    assertFalse(accountClient.deleteAccountsByClientId(clientId));
+    verify(feignAccountClient, times(1)).deleteAccountsByClientId(clientId);
+
+    Thread.sleep(300);
+    assertTrue(accountClient.deleteAccountsByClientId(clientId));
+    verify(feignAccountClient, times(2)).deleteAccountsByClientId(clientId);
+  }
+
+  private long requests(String outcome) {
+    return meterRegistry.get(AccountClient.REQUESTS_METRIC)
+        .tag("operation", "getAccountsByClientId")
+        .tag("outcome", outcome)
+        .timer().count();
+  }
+}
@@ -0,0 +1,79 @@
+package com.danny.customerms.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Dos instancias locales de ACCOUNTMS, una lenta y una rapida, detras del balanceador por
+ * latencia y con consultas de respaldo habilitadas.
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "account.client.hedging.enabled=true",
+    "account.client.hedging.min-delay=PT0.05S"})
+public class AccountLoadBalancingTest {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountLoadBalancingTest.class);
+  private static final int ROUNDS = 60;
+  private static final long SLOW_LATENCY_MILLIS = 400;
+
+  private static final AccountMsStub slowAccountMs =
+      AccountMsStub.start().withLatency(SLOW_LATENCY_MILLIS);
+  private static final AccountMsStub fastAccountMs = AccountMsStub.start().withLatency(10);
+
+  @Autowired
+  private AccountClient accountClient;
+
+  @DynamicPropertySource
+  static void accountMsProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.cloud.discovery.client.simple.instances[ACCOUNTMS][0].uri",
+        slowAccountMs::baseUrl);
+    registry.add("spring.cloud.discovery.client.simple.instances[ACCOUNTMS][1].uri",
+        fastAccountMs::baseUrl);
+  }
+
+  @AfterAll
+  public static void stopAccountMs() {
+    slowAccountMs.close();
+    fastAccountMs.close();
+  }
+
+  @Test
+  @DisplayName("Test balanceo por latencia - la instancia lenta casi no recibe consultas")
+  public void testSlowInstanceIsAvoided() throws InterruptedException {
+    UUID clientId = UUID.randomUUID();
+    accountClient.getAccountsByClientId(clientId);
+    Thread.sleep(SLOW_LATENCY_MILLIS);
+    slowAccountMs.reset();
+    fastAccountMs.reset();
+    slowAccountMs.addAccounts(clientId, 2, 0.0);
+    fastAccountMs.addAccounts(clientId, 2, 0.0);
+
+    long maxMillis = 0;
+    for (int i = 0; i < ROUNDS; i++) {
+      long start = System.nanoTime();
+      assertEquals(2, accountClient.getAccountsByClientId(clientId).size());
+      maxMillis = Math.max(maxMillis,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+    Thread.sleep(SLOW_LATENCY_MILLIS);
+
+    log.info("{} consultas: instancia lenta {}, instancia rapida {}, maxima {} ms", ROUNDS,
+        slowAccountMs.lookups(), fastAccountMs.lookups(), maxMillis);
+    assertTrue(slowAccountMs.lookups() <= ROUNDS / 10);
+    assertTrue(fastAccountMs.lookups() >= ROUNDS);
+    assertTrue(maxMillis < SLOW_LATENCY_MILLIS);
+  }
+}
@@ -0,0 +1,117 @@
+package com.danny.customerms.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.danny.customerms.exception.AccountDeletionException;
+import com.danny.customerms.exception.BadPetitionException;
+import com.danny.customerms.exception.ConflictException;
+import com.danny.customerms.exception.NotFoundException;
+import com.danny.customerms.exception.PreconditionFailedException;
+import com.danny.customerms.exception.ServiceUnavailableException;
+import com.danny.customerms.exception.UnAuthorizedException;
+import com.danny.customerms.model.Error;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class ExceptionTranslatorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ExceptionTranslator exceptionTranslator = new ExceptionTranslator(meterRegistry);
+
+  @Test
+  void testBadPetitionException() {
+    BadPetitionException exception = new BadPetitionException("Bad request");
+    ResponseEntity<Error> response = exceptionTranslator.badPetitionException(exception);
+
+    assertEquals(HttpStatus.BAD_REQUEST.value(), response.getStatusCode().value());
+    assertEquals("Bad request", Objects.requireNonNull(response.getBody()).getMessage());
+    assertEquals(400, response.getBody().getCode());
+  }
+
+  @Test
+  void testNotFoundException() {
+    NotFoundException exception = new NotFoundException("Resource not found");
+    ResponseEntity<Error> response = exceptionTranslator.userNotFoundException(exception);
+
+    assertEquals(HttpStatus.NOT_FOUND.value(), response.getStatusCode().value());
+    assertEquals("Resource not found", Objects.requireNonNull(response.getBody()).getMessage());
+    assertEquals(404, response.getBody().getCode());
+  }
+
+  @Test
+  void testUnauthorizedException() {
+    UnAuthorizedException exception = new UnAuthorizedException("Unauthorized access");
+    ResponseEntity<Error> response = exceptionTranslator.unauthorizedException(exception);
+
+    assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatusCode().value());
+    assertEquals("Unauthorized access", Objects.requireNonNull(response.getBody()).getMessage());
+    assertEquals(401, response.getBody().getCode());
+  }
+
+  @Test
+  void testConflictException() {
+    ConflictException exception = new ConflictException("Conflict occurred");
+    ResponseEntity<Error> response = exceptionTranslator.unprocessableException(exception);
+
+    assertEquals(HttpStatus.CONFLICT.value(), response.getStatusCode().value());
+    assertEquals("Conflict occurred", Objects.requireNonNull(response.getBody()).getMessage());
+    assertEquals(409, response.getBody().getCode());
+  }
+
+  @Test
+  void testAccountDeletionException() {
+    UUID accountId = UUID.randomUUID();
+    AccountDeletionException exception = new AccountDeletionException(List.of(accountId));
+    ResponseEntity<Error> response = exceptionTranslator.accountDeletionException(exception);
+
+    assertEquals(HttpStatus.BAD_GATEWAY.value(), response.getStatusCode().value());
+    assertEquals("No se pudieron eliminar las cuentas: " + accountId,
+        Objects.requireNonNull(response.getBody()).getMessage());
+  }
+
+  @Test
+  void testPreconditionFailedException() {
+    PreconditionFailedException exception = new PreconditionFailedException("Version distinta");
+    ResponseEntity<Error> response = exceptionTranslator.preconditionFailedException(exception);
+
+    assertEquals(HttpStatus.PRECONDITION_FAILED.value(), response.getStatusCode().value());
+    assertEquals("Version distinta", Objects.requireNonNull(response.getBody()).getMessage());
+  }
+
+  @Test
+  void testServiceUnavailableException() {
+    ServiceUnavailableException exception = new ServiceUnavailableException("Service unavailable");
+    ResponseEntity<Error> response = exceptionTranslator.serviceUnavailableException(exception);
+
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatusCode().value());
+    assertEquals("Service unavailable", Objects.requireNonNull(response.getBody()).getMessage());
+  }
+
+  @Test
+  void testDataIntegrityViolationException() {
+    DataIntegrityViolationException exception = new DataIntegrityViolationException("duplicate");
+    ResponseEntity<Error> response = exceptionTranslator.dataIntegrityViolationException(exception);
+
+    assertEquals(HttpStatus.CONFLICT.value(), response.getStatusCode().value());
+    assertEquals(409, Objects.requireNonNull(response.getBody()).getCode());
+  }
+
+  @Test
+  void testErrorsAreCountedByType() {
+    exceptionTranslator.badPetitionException(new BadPetitionException("Bad request"));
+    exceptionTranslator.badPetitionException(new BadPetitionException("Bad request"));
+    exceptionTranslator.dataIntegrityViolationException(
+        new DataIntegrityViolationException("duplicate"));
+
+    assertEquals(2, meterRegistry.get(ExceptionTranslator.ERRORS_METRIC)
+        .tag("type", "BadPetitionException").tag("status", "400").counter().count());
+    assertEquals(1, meterRegistry.get(ExceptionTranslator.ERRORS_METRIC)
+        .tag("type", "DataIntegrityViolationException").counter().count());
+  }
+}
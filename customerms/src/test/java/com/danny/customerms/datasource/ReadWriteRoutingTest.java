@@ -0,0 +1,122 @@
+package com.danny.customerms.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.danny.customerms.business.CustomerService;
+import com.danny.customerms.clients.AccountClient;
+import com.danny.customerms.config.CacheConfig;
+import com.danny.customerms.model.CustomerRequest;
+import com.danny.customerms.model.CustomerResponse;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Dos bases H2 en memoria hacen de principal y replica; una segunda replica apunta a un puerto sin
+ * servidor para comprobar la conmutacion a la principal.
+ */
+@SpringBootTest(properties = {
+    "eureka.client.enabled=false",
+    "customer.datasource.routing.enabled=true",
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+    "customer.datasource.replicas[0].url=jdbc:h2:tcp://localhost:1/mem:unavailable",
+    "customer.datasource.replicas[0].username=sa",
+    "customer.datasource.replicas[0].password=password",
+    "customer.datasource.replicas[1].url=" + ReadWriteRoutingTest.REPLICA_URL,
+    "customer.datasource.replicas[1].username=sa",
+    "customer.datasource.replicas[1].password=password",
+    "customer.datasource.replica-retry-after=PT1M"})
+public class ReadWriteRoutingTest {
+
+  static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+  private static final String INSERT =
+      "insert into customer (id, nombre, apellido, dni, email) values (?, ?, ?, ?, ?)";
+  private static final JdbcTemplate replica = new JdbcTemplate(
+      new DriverManagerDataSource(REPLICA_URL, "sa", "password"));
+
+  static {
+    Flyway.configure().dataSource(REPLICA_URL, "sa", "password").load().migrate();
+  }
+
+  @Autowired
+  private CustomerService customerService;
+
+  @Autowired
+  private ReadWriteRoutingDataSource routingDataSource;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private JdbcTemplate primary;
+
+  @MockBean
+  private AccountClient accountClient;
+
+  @AfterEach
+  public void tearDown() {
+    primary.update("delete from customer");
+    replica.update("delete from customer");
+    cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).clear();
+  }
+
+  @Test
+  @DisplayName("Test rutas - las lecturas van a la replica disponible")
+  public void testReadOnlyQueriesUseAvailableReplica() {
+    UUID id = insertInBoth();
+
+    // Una de las dos primeras lecturas intenta la replica caida y se atiende en la principal
+    customerService.getCustomers(20, 0, null);
+    customerService.getCustomers(20, 0, null);
+
+    assertFalse(routingDataSource.isAvailable(ReadWriteRoutingDataSource.replicaKey(0)));
+    for (int i = 0; i < 3; i++) {
+      CustomerResponse customer = customerService.getCustomers(20, 0, null).getCustomers().get(0);
+      assertEquals(id, customer.getId());
+      assertEquals("Replica", customer.getNombre());
+    }
+  }
+
+  @Test
+  @DisplayName("Test rutas - escrituras en la principal y lectura de lo escrito")
+  public void testWritesUsePrimaryAndAreReadBack() {
+    UUID id = insertInBoth();
+    CustomerRequest update = new CustomerRequest();
+    update.setApellido("Actualizado");
+
+    customerService.updateCustomer(id, update, null);
+    cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).clear();
+
+    assertEquals("Actualizado", customerService.getCustomerDetails(id).getApellido());
+    assertEquals("Apellido", replica.queryForObject(
+        "select apellido from customer where id = ?", String.class, id));
+
+    CustomerRequest request = new CustomerRequest();
+    request.setNombre("Nuevo");
+    request.setApellido("Cliente");
+    request.setDni("87654321");
+    request.setEmail("nuevo@example.com");
+    UUID created = customerService.createCustomer(request).getId();
+    cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).clear();
+
+    assertEquals(created, customerService.getCustomerDetails(created).getId());
+    assertEquals(0L, (long) replica.queryForObject(
+        "select count(*) from customer where id = ?", Long.class, created));
+  }
+
+  private UUID insertInBoth() {
+    UUID id = UUID.randomUUID();
+    primary.update(INSERT, id, "Primario", "Apellido", "12345678", "cliente@example.com");
+    replica.update(INSERT, id, "Replica", "Apellido", "12345678", "cliente@example.com");
+    return id;
+  }
+}
@@ -0,0 +1,80 @@
+package com.danny.customerms.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencias y codigos de respuesta por endpoint de una prueba de carga.
+ */
+class LoadReport {
+
+  static final int TRANSPORT_ERROR = -1;
+
+  private final Map<String, EndpointStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+  void record(String endpoint, long latencyNanos, int status) {
+    this.statsByEndpoint.computeIfAbsent(endpoint, ignored -> new EndpointStats())
+        .record(latencyNanos, status);
+  }
+
+  long count() {
+    return this.statsByEndpoint.values().stream().mapToLong(stats -> stats.latencies.size()).sum();
+  }
+
+  long transportErrors() {
+    return this.statsByEndpoint.values().stream()
+        .mapToLong(stats -> stats.statusCount(TRANSPORT_ERROR)).sum();
+  }
+
+  String format(long elapsedNanos) {
+    double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    StringBuilder report = new StringBuilder(String.format(
+        "%n%-22s %8s %9s %9s %9s %9s %9s  %s%n", "endpoint", "total", "req/s", "p50 ms",
+        "p90 ms", "p99 ms", "max ms", "estados"));
+    new TreeMap<>(this.statsByEndpoint).forEach((endpoint, stats) -> {
+      long[] sorted = stats.sortedLatencies();
+      report.append(String.format("%-22s %8d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n", endpoint,
+          sorted.length, sorted.length / seconds, millis(sorted, 0.50), millis(sorted, 0.90),
+          millis(sorted, 0.99), millis(sorted, 1.0), new TreeMap<>(stats.statusCounts)));
+    });
+    report.append(String.format("total: %d peticiones en %.1f s, %.1f req/s", this.count(),
+        seconds, this.count() / seconds));
+    return report.toString();
+  }
+
+  private static double millis(long[] sorted, double quantile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = Math.max(0, (int) Math.ceil(quantile * sorted.length) - 1);
+    return sorted[index] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  private static final class EndpointStats {
+
+    private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, AtomicLong> statusCounts = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, int status) {
+      this.latencies.add(latencyNanos);
+      this.statusCounts.computeIfAbsent(status, ignored -> new AtomicLong()).incrementAndGet();
+    }
+
+    long statusCount(int status) {
+      AtomicLong count = this.statusCounts.get(status);
+      return count == null ? 0 : count.get();
+    }
+
+    long[] sortedLatencies() {
+      long[] sorted = this.latencies.stream().mapToLong(Long::longValue).toArray();
+      Arrays.sort(sorted);
+      return sorted;
+    }
+  }
+}
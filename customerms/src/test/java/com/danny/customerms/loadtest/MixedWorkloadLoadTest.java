@@ -0,0 +1,181 @@
+package com.danny.customerms.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.danny.customerms.clients.AccountMsStub;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Mezcla de altas, lecturas, listados, actualizaciones y eliminaciones a una tasa fija
+ * ({@code loadtest.rate} peticiones por segundo durante {@code loadtest.duration}) con el perfil
+ * loadtest. Las peticiones se envian segun el calendario aunque el servicio se atrase, y la
+ * latencia se mide desde el momento en que debian salir.
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class MixedWorkloadLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(MixedWorkloadLoadTest.class);
+  private static final String INSERT_CUSTOMER =
+      "insert into customer (id, nombre, apellido, dni, email) values (?, ?, ?, ?, ?)";
+  private static final int DELETABLE_DNI_OFFSET = 10_000_000;
+  private static final int CREATED_DNI_OFFSET = 50_000_000;
+  private static final AccountMsStub accountMs = AccountMsStub.start();
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Value("${loadtest.rate}")
+  private int rate;
+  @Value("${loadtest.duration}")
+  private Duration duration;
+  @Value("${loadtest.seed-customers}")
+  private int seedCustomers;
+  @Value("${loadtest.account-ms.latency}")
+  private Duration accountMsLatency;
+  @Value("${loadtest.account-ms.error-rate}")
+  private double accountMsErrorRate;
+  @Value("${loadtest.mix.create}")
+  private int createWeight;
+  @Value("${loadtest.mix.read}")
+  private int readWeight;
+  @Value("${loadtest.mix.list}")
+  private int listWeight;
+  @Value("${loadtest.mix.update}")
+  private int updateWeight;
+  @Value("${loadtest.mix.delete}")
+  private int deleteWeight;
+
+  private final AtomicInteger createdCustomers = new AtomicInteger();
+
+  @DynamicPropertySource
+  static void accountMsProperties(DynamicPropertyRegistry registry) {
+    registry.add("loadtest.account-ms.url", accountMs::baseUrl);
+  }
+
+  @AfterAll
+  public static void stopAccountMs() {
+    accountMs.close();
+  }
+
+  @Test
+  void mixedWorkloadAtTargetRate() {
+    accountMs.withLatency(accountMsLatency.toMillis()).withErrorRate(accountMsErrorRate);
+    long total = rate * duration.toSeconds();
+    int totalWeight = createWeight + readWeight + listWeight + updateWeight + deleteWeight;
+    List<UUID> readable = seed(seedCustomers, 0, "lectura");
+    Queue<UUID> deletable = new ConcurrentLinkedQueue<>(
+        seed((int) (total * deleteWeight / totalWeight * 2 + 1), DELETABLE_DNI_OFFSET, "borrado"));
+    deletable.forEach(id -> accountMs.addAccounts(id, 1, 0.0));
+
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    LoadReport report = new LoadReport();
+    List<CompletableFuture<Void>> responses = new ArrayList<>((int) total);
+    long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+    long start = System.nanoTime();
+    for (long i = 0; i < total; i++) {
+      long scheduled = start + i * interval;
+      long wait = scheduled - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      int choice = ThreadLocalRandom.current().nextInt(totalWeight);
+      UUID toDelete = choice >= totalWeight - deleteWeight ? deletable.poll() : null;
+      String endpoint;
+      HttpRequest request;
+      if (toDelete != null) {
+        endpoint = "DELETE /customer/{id}";
+        request = request("/customer/" + toDelete).DELETE().build();
+      } else if (choice < createWeight) {
+        endpoint = "POST /customer";
+        int n = CREATED_DNI_OFFSET + createdCustomers.incrementAndGet();
+        request = request("/customer").POST(json(customerJson("Carga", n, "alta"))).build();
+      } else if (choice < createWeight + listWeight) {
+        endpoint = "GET /customer";
+        request = request("/customer?limit=20&offset="
+            + ThreadLocalRandom.current().nextInt(seedCustomers)).GET().build();
+      } else if (choice < createWeight + listWeight + updateWeight) {
+        endpoint = "PUT /customer/{id}";
+        int n = ThreadLocalRandom.current().nextInt(readable.size());
+        request = request("/customer/" + readable.get(n))
+            .PUT(json(customerJson("Actualizado", n, "lectura"))).build();
+      } else {
+        endpoint = "GET /customer/{id}";
+        request = request("/customer/"
+            + readable.get(ThreadLocalRandom.current().nextInt(readable.size()))).GET().build();
+      }
+      responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+          .handle((response, error) -> {
+            report.record(endpoint, System.nanoTime() - scheduled,
+                error == null ? response.statusCode() : LoadReport.TRANSPORT_ERROR);
+            return null;
+          }));
+    }
+    responses.forEach(CompletableFuture::join);
+
+    log.info("Carga mixta a {} req/s, ACCOUNTMS con {} ms y {}% de errores:{}", rate,
+        accountMsLatency.toMillis(), accountMsErrorRate * 100,
+        report.format(System.nanoTime() - start));
+    assertEquals(total, report.count());
+    assertEquals(0, report.transportErrors());
+  }
+
+  private List<UUID> seed(int count, int dniOffset, String emailPrefix) {
+    List<UUID> ids = new ArrayList<>(count);
+    List<Object[]> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      UUID id = UUID.randomUUID();
+      ids.add(id);
+      rows.add(new Object[]{id, "Nombre", "Apellido", String.format("%08d", dniOffset + i),
+          emailPrefix + (dniOffset + i) + "@example.com"});
+    }
+    jdbcTemplate.batchUpdate(INSERT_CUSTOMER, rows);
+    return ids;
+  }
+
+  private HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .header("Content-Type", "application/json")
+        .timeout(Duration.ofSeconds(30));
+  }
+
+  private static HttpRequest.BodyPublisher json(String body) {
+    return HttpRequest.BodyPublishers.ofString(body);
+  }
+
+  private static String customerJson(String nombre, int n, String emailPrefix) {
+    return String.format("{\"nombre\":\"%s\",\"apellido\":\"Prueba\",\"dni\":\"%08d\","
+        + "\"email\":\"%s%d@example.com\"}", nombre, n, emailPrefix, n);
+  }
+}
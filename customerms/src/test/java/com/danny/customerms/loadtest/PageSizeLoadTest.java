@@ -0,0 +1,129 @@
+package com.danny.customerms.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.danny.customerms.clients.AccountMsStub;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Listados de 20, 500 y 5.000 clientes con y sin gzip: reporta el tamaño del cuerpo transmitido y
+ * los percentiles de latencia de cada combinacion. Las paginas de mas de
+ * {@code customer.pagination.streaming-threshold} clientes se escriben en streaming.
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class PageSizeLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(PageSizeLoadTest.class);
+  private static final String INSERT_CUSTOMER =
+      "insert into customer (id, nombre, apellido, dni, email) values (?, ?, ?, ?, ?)";
+  private static final int[] PAGE_SIZES = {20, 500, 5_000};
+  private static final String[] ENCODINGS = {"identity", "gzip"};
+  private static final AccountMsStub accountMs = AccountMsStub.start();
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Value("${loadtest.page-size.requests}")
+  private int requests;
+  @Value("${loadtest.page-size.seed-customers}")
+  private int seedCustomers;
+
+  @DynamicPropertySource
+  static void accountMsProperties(DynamicPropertyRegistry registry) {
+    registry.add("loadtest.account-ms.url", accountMs::baseUrl);
+  }
+
+  @AfterAll
+  public static void stopAccountMs() {
+    accountMs.close();
+  }
+
+  @Test
+  void payloadSizeAndLatencyByPageSize() {
+    seed(seedCustomers);
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    LoadReport report = new LoadReport();
+    Map<String, Long> payloadBytes = new TreeMap<>();
+    long start = System.nanoTime();
+    for (int pageSize : PAGE_SIZES) {
+      for (String encoding : ENCODINGS) {
+        String endpoint = String.format("limit=%d %s", pageSize, encoding);
+        for (int i = 0; i < requests; i++) {
+          int offset = ThreadLocalRandom.current().nextInt(seedCustomers - pageSize + 1);
+          long sent = System.nanoTime();
+          HttpResponse<byte[]> response = send(client, pageSize, offset, encoding);
+          report.record(endpoint, System.nanoTime() - sent,
+              response == null ? LoadReport.TRANSPORT_ERROR : response.statusCode());
+          if (response != null) {
+            payloadBytes.merge(endpoint, (long) response.body().length, Long::sum);
+            assertEquals("gzip".equals(encoding),
+                response.headers().firstValue("Content-Encoding").isPresent());
+          }
+        }
+      }
+    }
+
+    StringBuilder sizes = new StringBuilder();
+    payloadBytes.forEach((endpoint, bytes) -> sizes.append(String.format("%n%-22s %10d bytes",
+        endpoint, bytes / requests)));
+    log.info("Listados por tamaño de pagina, cuerpo promedio transmitido:{}{}", sizes,
+        report.format(System.nanoTime() - start));
+    assertEquals(0, report.transportErrors());
+    assertTrue(payloadBytes.get("limit=5000 gzip") < payloadBytes.get("limit=5000 identity"));
+  }
+
+  private HttpResponse<byte[]> send(HttpClient client, int limit, int offset, String encoding) {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(
+            "http://localhost:" + port + "/customer?limit=" + limit + "&offset=" + offset))
+        .header("Accept-Encoding", encoding)
+        .timeout(Duration.ofSeconds(30))
+        .GET().build();
+    try {
+      return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    } catch (IOException e) {
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void seed(int count) {
+    List<Object[]> rows = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      rows.add(new Object[]{UUID.randomUUID(), "Nombre" + i, "Apellido Prueba" + i,
+          String.format("%08d", 70_000_000 + i), "listado" + i + "@example.com"});
+    }
+    jdbcTemplate.batchUpdate(INSERT_CUSTOMER, rows);
+  }
+}
@@ -0,0 +1,14 @@
+package com.danny.customerms.loadtest;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    ThreadingModeLoadTest.COMMON_PROPERTIES, "server.tomcat.threads.max=50"})
+class PlatformThreadsLoadTest extends ThreadingModeLoadTest {
+
+  @Override
+  String mode() {
+    return "hilos de plataforma";
+  }
+}
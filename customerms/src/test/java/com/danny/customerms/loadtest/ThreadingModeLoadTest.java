@@ -0,0 +1,101 @@
+package com.danny.customerms.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.danny.customerms.clients.AccountMsStub;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Lanza muchas eliminaciones de clientes a la vez contra un ACCOUNTMS lento y mide cuantas
+ * peticiones sostiene el servicio en paralelo (ley de Little: tiempo total de respuesta / duracion).
+ * Las subclases levantan el servicio con hilos de plataforma o con hilos virtuales.
+ */
+@Tag("load")
+abstract class ThreadingModeLoadTest {
+
+  static final String COMMON_PROPERTIES = "eureka.client.enabled=false";
+  private static final Logger log = LoggerFactory.getLogger(ThreadingModeLoadTest.class);
+  private static final int REQUESTS = 400;
+  private static final AccountMsStub accountMs = AccountMsStub.start().withLatency(250);
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(accountMs::close));
+  }
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final List<UUID> customers = new ArrayList<>();
+
+  @DynamicPropertySource
+  static void accountMsProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.cloud.discovery.client.simple.instances[ACCOUNTMS][0].uri",
+        accountMs::baseUrl);
+    // Se mide el modelo de hilos, no la resiliencia: todas las peticiones deben poder llamar a la
+    // vez, y las primeras llamadas, que esperan a que se cree el cliente, no deben abrir el circuito
+    registry.add("account.client.bulkhead.max-concurrent-calls", () -> REQUESTS);
+    registry.add("account.client.circuit-breaker.slow-call-duration", () -> "PT1M");
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("delete from customer");
+    accountMs.reset();
+    customers.clear();
+    for (int i = 0; i < REQUESTS; i++) {
+      UUID id = UUID.randomUUID();
+      jdbcTemplate.update(
+          "insert into customer (id, nombre, apellido, dni, email) values (?, ?, ?, ?, ?)", id,
+          "Nombre", "Apellido", String.format("%08d", i), "carga" + i + "@example.com");
+      accountMs.addAccounts(id, 1, 0.0);
+      customers.add(id);
+    }
+  }
+
+  abstract String mode();
+
+  @Test
+  void sustainsConcurrentDeletesWithSlowAccountMs() {
+    HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    long start = System.nanoTime();
+    List<CompletableFuture<Long>> responses = customers.stream().map(id -> {
+      long sent = System.nanoTime();
+      return client.sendAsync(HttpRequest.newBuilder(
+                  URI.create("http://localhost:" + port + "/customer/" + id)).DELETE().build(),
+              HttpResponse.BodyHandlers.discarding())
+          .thenApply(response -> {
+            assertEquals(200, response.statusCode());
+            return System.nanoTime() - sent;
+          });
+    }).toList();
+    long totalLatency = responses.stream().mapToLong(CompletableFuture::join).sum();
+    long elapsed = System.nanoTime() - start;
+
+    log.info("Modo {}: {} eliminaciones en {} ms, {} peticiones/s, concurrencia media {}", mode(),
+        REQUESTS, TimeUnit.NANOSECONDS.toMillis(elapsed),
+        REQUESTS * TimeUnit.SECONDS.toNanos(1) / elapsed, totalLatency / elapsed);
+    assertEquals(0, (long) jdbcTemplate.queryForObject("select count(*) from customer",
+        Long.class));
+  }
+}
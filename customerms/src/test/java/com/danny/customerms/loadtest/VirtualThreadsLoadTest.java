@@ -0,0 +1,19 @@
+package com.danny.customerms.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+@ActiveProfiles("virtual")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    ThreadingModeLoadTest.COMMON_PROPERTIES, "server.tomcat.threads.max=50"})
+class VirtualThreadsLoadTest extends ThreadingModeLoadTest {
+
+  @Override
+  String mode() {
+    return "hilos virtuales";
+  }
+}
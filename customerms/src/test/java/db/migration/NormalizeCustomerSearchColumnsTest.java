@@ -0,0 +1,35 @@
+package db.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+public class NormalizeCustomerSearchColumnsTest {
+
+  @Test
+  @DisplayName("Test migracion V4 - recalcula las columnas normalizadas sin tildes")
+  public void testBackfillStripsAccents() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    Flyway.configure().dataSource(dataSource).target("3").load().migrate();
+    UUID id = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO customer (id, nombre, apellido, dni, email, nombre_norm,"
+            + " apellido_norm, email_norm) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", id, "José",
+        "Núñez", "12345678", "José@Example.com", "josé", "núñez", "josé@example.com");
+
+    Flyway.configure().dataSource(dataSource).load().migrate();
+
+    Map<String, Object> row = jdbcTemplate.queryForMap(
+        "SELECT nombre_norm, apellido_norm, email_norm FROM customer WHERE id = ?", id);
+    assertEquals("jose", row.get("NOMBRE_NORM"));
+    assertEquals("nunez", row.get("APELLIDO_NORM"));
+    assertEquals("jose@example.com", row.get("EMAIL_NORM"));
+  }
+}